@@ -0,0 +1,111 @@
+/**
+ * Card Archive: Game Elements
+ *
+ * Picks cards randomly in proportion to their weights
+ * in constant time with Walker's alias method.
+ *
+ * The table has one column per card. Each column is split
+ * between its own card and one other card, its alias, so
+ * that every column has the same total weight. A card is
+ * picked by choosing a random column and then either the
+ * column's card or its alias with the column's probability.
+ * The table is built once in O(n) with Vose's algorithm,
+ * which pairs columns that are too light with ones that are
+ * too heavy, and never changes after that.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class AliasTable implements CardWeights {
+    private final Deck deck;
+    private final double[] probabilities;
+    private final int[] aliases;
+    private final double totalWeight;
+
+   /**
+    * Class constructor. Builds the table from the cards' weights.
+    *
+    * @param deck   the deck whose cards' weights are used
+    */
+    public AliasTable(Deck deck) {
+        int n = deck.size();
+        this.deck = deck;
+        probabilities = new double[n];
+        aliases = new int[n];
+        totalWeight = deck.getTotalWeight();
+
+        // Scales the weights so that the average is 1 and sorts
+        // the columns into light and heavy ones; the light ones
+        // are a stack at the start of the work list and the
+        // heavy ones are at its end
+        int[] work = new int[n];
+        int light = 0;
+        int heavy = n;
+        for (int i = 0; i < n; i++) {
+            probabilities[i] = deck.getWeight(i) * n / totalWeight;
+            if (probabilities[i] < 1) {
+                work[light++] = i;
+            }
+            else {
+                work[--heavy] = i;
+            }
+        }
+
+        // Fills each light column with a part of a heavy one,
+        // which becomes light itself if too much of it is used
+        while (light > 0 && heavy < n) {
+            int small = work[--light];
+            int large = work[heavy];
+            aliases[small] = large;
+            probabilities[large] += probabilities[small] - 1;
+            if (probabilities[large] < 1) {
+                heavy++;
+                work[light++] = large;
+            }
+        }
+
+        // Rounding errors leave some columns almost full
+        for (int i = 0; i < light; i++) {
+            probabilities[work[i]] = 1;
+        }
+        for (int i = heavy; i < n; i++) {
+            probabilities[work[i]] = 1;
+        }
+    }
+
+    @Override
+    public int size() {
+        return aliases.length;
+    }
+
+    @Override
+    public double getWeight(int card) {
+        return deck.getWeight(card);
+    }
+
+    @Override
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    @Override
+    public long getVersion() {
+        return 0;
+    }
+
+   /**
+    * Picks a random column and then either its card or its alias.
+    *
+    * @param shuffler   the shuffler whose random numbers are used
+    * @return the card's index or Deck.NO_CARD if the deck is empty
+    */
+    @Override
+    public int sample(Shuffler shuffler) {
+        if (aliases.length == 0) {
+            return Deck.NO_CARD;
+        }
+
+        int column = shuffler.nextInt(aliases.length);
+        return shuffler.nextDouble() < probabilities[column] ? column : aliases[column];
+    }
+}
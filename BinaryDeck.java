@@ -0,0 +1,231 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * A deck precompiled into a binary card file, which is
+ * memory-mapped instead of parsed. Card names are read
+ * from the mapped file only when they are needed.
+ *
+ * The file is laid out as follows (all integers are 32-bit
+ * and big-endian):
+ * - header: magic number, version, card count, category count
+ * - category table: first card's index and size per category
+ * - card categories: one category index per card
+ * - card weights: one 32-bit float per card (since version 2)
+ * - offset index: where each string starts in the string pool,
+ *   category names first and then card names, plus the end
+ *   of the last string
+ * - string pool: the UTF-8 encoded names
+ *
+ * DeckCompiler creates binary card files from text card files.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class BinaryDeck {
+    public static final String FILE_EXTENSION = ".cdeck";
+    public static final int MAGIC = 0x43444b31; // "CDK1"
+    public static final int VERSION = 2;
+    public static final int OLDEST_VERSION = 1;
+    public static final int HEADER_SIZE = 16;
+
+    private final ByteBuffer buffer;
+    private final int cardCount;
+    private final int categoryCount;
+    private final int categoryTableStart;
+    private final int cardCategoriesStart;
+    private final int cardWeightsStart;
+    private final int offsetIndexStart;
+    private final int stringPoolStart;
+
+   /**
+    * Class constructor. Maps the given file to memory.
+    *
+    * @param file   a binary card file
+    * @throws IOException if the file can't be read or is invalid
+    */
+    public BinaryDeck(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+             FileChannel channel = raf.getChannel()) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Card file is too large: " + file);
+            }
+
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a binary card file: " + file);
+        }
+        int version = buffer.getInt(4);
+        if (version < OLDEST_VERSION || version > VERSION) {
+            throw new IOException("Unsupported card file version: " + version);
+        }
+
+        cardCount = buffer.getInt(8);
+        categoryCount = buffer.getInt(12);
+        if (cardCount < 0 || categoryCount < 0) {
+            throw new IOException("Corrupted card file: " + file);
+        }
+
+        long cardCategories = HEADER_SIZE + 8L * categoryCount;
+        long cardWeights = cardCategories + 4L * cardCount;
+        long offsetIndex = version >= 2 ? cardWeights + 4L * cardCount : cardWeights;
+        long stringPool = offsetIndex + 4L * (categoryCount + cardCount + 1L);
+        if (stringPool > buffer.capacity()) {
+            throw new IOException("Corrupted card file: " + file);
+        }
+
+        categoryTableStart = HEADER_SIZE;
+        cardCategoriesStart = (int) cardCategories;
+        cardWeightsStart = version >= 2 ? (int) cardWeights : -1;
+        offsetIndexStart = (int) offsetIndex;
+        stringPoolStart = (int) stringPool;
+        if (stringPoolStart + (long) stringOffset(categoryCount + cardCount) > buffer.capacity()) {
+            throw new IOException("Corrupted card file: " + file);
+        }
+    }
+
+   /**
+    * Creates a deck from the mapped file. The categories, weights
+    * and name offsets are copied into arrays but the names are
+    * decoded from the mapped file when they are needed. The
+    * weights are left out if all cards have the default weight.
+    * The cards' categories and weights are checked the same
+    * way DeckLoader checks them in a text card file, and the
+    * names must follow each other inside the string pool.
+    *
+    * @return the deck
+    * @throws IOException if a card's category or weight
+    *                     or a name's offset is invalid
+    */
+    public Deck toDeck() throws IOException {
+        checkStringOffsets();
+
+        int[] cardCategories = new int[cardCount];
+        buffer.slice(cardCategoriesStart, 4 * cardCount)
+            .asIntBuffer().get(cardCategories);
+        for (int i = 0; i < cardCount; i++) {
+            if (cardCategories[i] < 0 || cardCategories[i] >= categoryCount) {
+                throw invalidCard(i, "invalid category number");
+            }
+        }
+
+        float[] cardWeights = null;
+        if (cardWeightsStart >= 0) {
+            cardWeights = new float[cardCount];
+            buffer.slice(cardWeightsStart, 4 * cardCount)
+                .asFloatBuffer().get(cardWeights);
+            for (int i = 0; i < cardCount; i++) {
+                if (!(cardWeights[i] > 0) || Float.isInfinite(cardWeights[i])) {
+                    throw invalidCard(i, "invalid weight");
+                }
+            }
+            if (allDefaultWeights(cardWeights)) {
+                cardWeights = null;
+            }
+        }
+
+        int[] nameOffsets = new int[cardCount + 1];
+        buffer.slice(offsetIndexStart + 4 * categoryCount, 4 * (cardCount + 1))
+            .asIntBuffer().get(nameOffsets);
+
+        int[] categorySizes = new int[categoryCount];
+        int[] categoryFirstCardIndexes = new int[categoryCount];
+        String[] categoryNames = new String[categoryCount];
+        for (int i = 0; i < categoryCount; i++) {
+            categoryFirstCardIndexes[i] = buffer.getInt(categoryTableStart + 8 * i);
+            categorySizes[i] = buffer.getInt(categoryTableStart + 8 * i + 4);
+            categoryNames[i] = string(i);
+            // An empty category's first card's index is -1
+            boolean empty = categorySizes[i] == 0 && categoryFirstCardIndexes[i] == -1;
+            if (!empty && (categoryFirstCardIndexes[i] < 0 || categorySizes[i] < 0 ||
+                    categoryFirstCardIndexes[i] > cardCount - categorySizes[i])) {
+                throw new IOException("Category " + i + ": cards out of range");
+            }
+        }
+
+        ByteBuffer names = buffer.slice(stringPoolStart, buffer.capacity() - stringPoolStart);
+        return new Deck(cardCategories, cardWeights, names, nameOffsets,
+                        categorySizes, categoryFirstCardIndexes, categoryNames);
+    }
+
+   /**
+    * Checks that each string starts where the previous
+    * one starts or after it and that all of them end
+    * inside the string pool, so that decoding a name
+    * can't read outside the pool later.
+    *
+    * @throws IOException if an offset is invalid
+    */
+    private void checkStringOffsets() throws IOException {
+        int poolSize = buffer.capacity() - stringPoolStart;
+        int previous = 0;
+        for (int i = 0; i <= categoryCount + cardCount; i++) {
+            int offset = stringOffset(i);
+            if (offset < previous || offset > poolSize) {
+                throw i < categoryCount
+                    ? new IOException("Category " + i + ": invalid name offset")
+                    : invalidCard(Math.min(i - categoryCount, cardCount - 1),
+                                  "invalid name offset");
+            }
+            previous = offset;
+        }
+    }
+
+   /**
+    * Creates an exception for an invalid card in the card file.
+    *
+    * @param card       the card's index
+    * @param message    what is wrong with the card
+    * @return the exception
+    */
+    private static IOException invalidCard(int card, String message) {
+        return new IOException("Card " + (card + 1) + ": " + message);
+    }
+
+   /**
+    * Checks whether all cards have the default weight.
+    *
+    * @param cardWeights    the cards' weights
+    * @return are all weights the default
+    */
+    private static boolean allDefaultWeights(float[] cardWeights) {
+        for (float weight : cardWeights) {
+            if (weight != Deck.DEFAULT_WEIGHT) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+   /**
+    * Gets where a string starts in the string pool.
+    *
+    * @param stringIndex    a string's index in the offset index
+    * @return the string's offset
+    */
+    private int stringOffset(int stringIndex) {
+        return buffer.getInt(offsetIndexStart + 4 * stringIndex);
+    }
+
+   /**
+    * Decodes a string from the string pool.
+    *
+    * @param stringIndex    a string's index in the offset index
+    * @return the string
+    */
+    private String string(int stringIndex) {
+        int start = stringOffset(stringIndex);
+        byte[] bytes = new byte[stringOffset(stringIndex + 1) - start];
+        buffer.get(stringPoolStart + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -1,4 +1,9 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
 
 /**
  * Card Archive: Game Elements
@@ -7,133 +12,606 @@ import java.util.*;
  * Displays random game mechanics, play styles, genres
  * and other features you can find in games of all types.
  *
- * See the instructions for using the program from line 205 onwards.
+ * The cards and messages are in the language chosen with
+ * the "--lang" option. Two languages can be given, such as
+ * "--lang=en+fi", to show the cards in both side by side.
+ * The languages' decks have the same cards, so the second
+ * one only adds its names to the first one's categories.
+ *
+ * The instructions for using the program are the "help" message
+ * in locales/messages_en.properties and messages_fi.properties.
  *
  * @author Lauri Kosonen
  * @version 2019-01-06
  */
 public class CardArchive {
-    private static final String PROGRAM_VERSION = "v2.0, 2019-01-06";
     private static final boolean SHUFFLE_DECK_FOR_EACH_HAND = false;
+    private static final boolean SHUFFLE_LAZILY = true;
     private static final boolean PRINT_CATEGORIES = true;
-    private static List<Card> deck;
-    private static Hand[] hands;
-    private static List<Integer> categorySizes;
-    private static List<Integer> categoryFirstCardIndexes;
+    private static final boolean FLUSH_EACH_LINE = false;
+    private static final int DEFAULT_PORT = 8080;
+    private static final Shuffler.Generator DEFAULT_GENERATOR =
+        Shuffler.Generator.SPLITTABLE;
+    private static final String[] OPTION_NAMES = {
+        "lang", "deck", "seed", "random", "parallel", "threads",
+        "hand", "weighted", "quota", "sort"
+    };
+    private static final int EXIT_MESSAGES_MISSING = 1;
+    private static final int EXIT_INVALID_OPTION = 2;
+    private static Language language;
+    private static Language translationLanguage;
+    private static Deck deck;
+    private static Deck translation;
+    private static Shuffler shuffler;
+    private static CardWeights cardWeights;
+    private static CategoryQuota categoryQuota;
+    private static HandSorter handSorter;
+    private static Engine engine;
+    private static DrawSession session;
+    private static int regeneratedHand = -1;
+    private static boolean interactive = false;
+    private static ForkJoinPool generatorPool;
     private static int handAmount = 0;
     private static int cardsInHand = 0;
-    private static int drawnCardAmount = 0;
     private static boolean showAll = false;
     private static int shownCategory = -1;
 
-    // Ä, ä, Ö and ö characters, respectively,
-    // by their ASCII numbers
-    private static char a1 = (char) 196; // 'Ä'
-    private static char a2 = (char) 228; // 'ä'
-    private static char o1 = (char) 214; // 'Ö'
-    private static char o2 = (char) 246; // 'ö'
-
    /**
     * Runs the program.
     */
     public static void main(String[] args)
     {
+        run(args, Language.ENGLISH);
+    }
+
+   /**
+    * Runs the program in the given language
+    * unless the "--lang" option chooses another.
+    *
+    * @param args               the arguments given in command line
+    * @param defaultLanguage    the default language's code
+    */
+    public static void run(String[] args, String defaultLanguage) {
+        boolean runMainProgram = true;
+
+        // Separates options from the other arguments
+        RunOptions options = new RunOptions(args);
+        args = options.getArguments();
+
+        // Chooses the language of the messages and cards
+        boolean languagesFound = initLanguages(options, defaultLanguage);
+
         // Prints the title of the program
-        String title = "CARD ARCHIVE: GAME ELEMENTS";
+        String title = text("title");
         System.out.println();
         System.out.println(title);
         System.out.println();
 
-        boolean runMainProgram = true;
+        if (!languagesFound) {
+            System.out.println(text("error.unknownLanguage", options.get("lang", "")));
+            exitWithInvalidOption();
+        }
+
+        // Stops at a misspelled option instead of ignoring it
+        String unknownOption = options.findUnknownOption(OPTION_NAMES);
+        if (unknownOption != null) {
+            System.out.println(text("error.unknownOption", unknownOption));
+            exitWithInvalidOption();
+        }
 
         // Creates the deck
-        initDeck();
+        initDeck(options);
 
         if (deck.size() == 0) {
-            System.out.println("There are no cards!");
+            System.out.println(text("noCards"));
             runMainProgram = false;
         }
         else {
-            // Parses special commands
-            runMainProgram = parseSpecialCommands(args);
+            // Initializes weighted drawing, category quotas, sorting,
+            // the translation, the shuffler and parallel generation
+            boolean validOptions = initWeightedMode(options) &&
+                                   initCategoryQuota(options) &&
+                                   initSortOrder(options) &&
+                                   initTranslation(options) &&
+                                   initShuffler(options) &&
+                                   initParallelMode(options) &&
+                                   initRegeneratedHand(options);
+            if (!validOptions) {
+                exitWithInvalidOption();
+            }
         }
 
         if (runMainProgram) {
+            // Shares the deck and the settings in an engine
+            // and draws the cards in a session of its own
+            engine = new Engine(deck, translation, cardWeights,
+                                categoryQuota, handSorter);
+            session = engine.newSession(shuffler, SHUFFLE_LAZILY);
+            runCommand(args);
+        }
+    }
+
+   /**
+    * Exits after the error of an invalid option or option
+    * value has been printed. Every invalid option exits with
+    * the same status code, so scripts can tell them apart
+    * from successful runs.
+    */
+    private static void exitWithInvalidOption() {
+        System.exit(EXIT_INVALID_OPTION);
+    }
+
+   /**
+    * Runs the command given in command line or
+    * in interactive mode: parses special commands
+    * and then prints the hands or the listed cards.
+    *
+    * @param cmdArgs the command's arguments
+    */
+    private static void runCommand(String[] cmdArgs) {
+        if (parseSpecialCommands(cmdArgs)) {
 
             // Initializes the number of hands generated
             // and how many cards are in a hand
-            initHandAmountAndSize(args);
+            initHandAmountAndSize(cmdArgs);
+            printHands();
+        }
+    }
 
-            // Continues if the number of hands and hand size are positive
-            if (handAmount > 0 && (cardsInHand > 0 || showAll)) {
-                boolean emptyDeck = false;
-                boolean incompleteHand = false;
+   /**
+    * Draws and prints the hands or the listed cards.
+    */
+    private static void printHands() {
+        // Lists all cards or a category's cards
+        if (showAll || shownCategory >= 0) {
+            if (cardsInHand > 0) {
+                printListing();
+            }
+        }
+        // Regenerates one of the independent hands
+        else if (regeneratedHand >= 0 && !interactive && cardsInHand > 0) {
+            regenerateHand();
+        }
+        // Generates independent hands in parallel
+        else if (generatorPool != null && !interactive &&
+            handAmount > 0 && cardsInHand > 0) {
+            generateHandsInParallel();
+        }
+        // Draws independent hands by the category quota
+        else if (categoryQuota != null && handAmount > 0 && cardsInHand > 0) {
+            printQuotaHands();
+        }
+        // Continues if the number of hands and hand size are positive
+        else if (handAmount > 0 && cardsInHand > 0) {
+
+            // Composes the printed hands into
+            // large blocks instead of single lines
+            CardPrinter printer = new CardPrinter(FLUSH_EACH_LINE);
+            int indexWidth = CardPrinter.indexWidth(cardsInHand);
+
+            // In interactive mode, the previous
+            // commands may have drawn all cards
+            boolean emptyDeck = (session.getRemainingCount() == 0);
+            if (emptyDeck) {
+                printer.printLine(text("noMoreCards"));
+            }
 
-                if (!showAll && shownCategory < 0) {
-                    shuffleDeck();
+            // Draws and prints the hands until the deck is empty
+            int[] hand = new int[cardsInHand];
+            for (int i = 0; i < handAmount && !emptyDeck && !printer.checkError(); i++) {
+                int handCardAmount = cardsInHand;
+                if (SHUFFLE_DECK_FOR_EACH_HAND) {
+                    session.drawIndependentHand(hand, cardsInHand);
+                }
+                else {
+                    handCardAmount = session.drawHand(hand, cardsInHand);
+                    emptyDeck = (session.getRemainingCount() == 0);
                 }
 
-                // Creates and checks the hands
-                hands = new Hand[handAmount];
-                for (int i = 0; i < handAmount; i++) {
-                    if (!emptyDeck) {
-
-                        // Initializes the current hand
-                        hands[i] = new Hand(cardsInHand);
-
-                        // Adds cards to the hand
-                        for (int j = 0; j < cardsInHand; j++) {
-                            if (shownCategory < 0) {
-                                drawCard(i, j);
-                            }
-                            else {
-                                drawCardInCategory(i, j, shownCategory);
-                            }
-
-                            // Prints the card's index number
-                            System.out.print(formatCardIndex(j, cardsInHand));
-
-                            // Prints the current card
-                            if (hands[i].getCard(j) != null) {
-
-                                // Prints the card's category
-                                if (PRINT_CATEGORIES) {
-                                    System.out.print("[" + categoryName(
-                                        hands[i].getCard(j).getCategory()) + "] ");
-                                }
-
-                                // Prints the card's name
-                                System.out.println(hands[i].getCard(j).getName());
-                            }
-                            else {
-                                System.out.println("< Card does not exist! >");
-                            }
-
-                            // Prevents further card adding and
-                            // hand checking if the deck is empty
-                            if (drawnCardAmount == deck.size()) {
-                                emptyDeck = true;
-                                incompleteHand = (j < cardsInHand - 1);
-
-                                if (!showAll && (cardsInHand < deck.size()) &&
-                                     (incompleteHand || SHUFFLE_DECK_FOR_EACH_HAND)) {
-                                    System.out.println("No more cards!");
-                                }
-
-                                break;
-                            }
-                        }
-
-                        System.out.println("------");
-
-                        if (SHUFFLE_DECK_FOR_EACH_HAND) {
-                            shuffleDeck();
-                            emptyDeck = false;
-                        }
+                for (int j = 0; j < handCardAmount; j++) {
+                    if (hand[j] != Deck.NO_CARD) {
+                        printer.printCard(j, indexWidth, deck, translation,
+                                          hand[j], PRINT_CATEGORIES);
+                    }
+                    else {
+                        printer.printCard(j, indexWidth,
+                            null, text("cardDoesNotExist"));
                     }
                 }
+
+                // The deck ran out of cards in the middle of the hand
+                if (handCardAmount < cardsInHand && cardsInHand < deck.size()) {
+                    printer.printLine(text("noMoreCards"));
+                }
+
+                printer.endHand();
             }
+
+            printer.flush();
+        }
+    }
+
+   /**
+    * Prints all cards or the shown category's cards straight
+    * from the deck. The cards are not collected into a hand,
+    * so the printing begins immediately and a listing of any
+    * size takes no more memory than the printer's buffer.
+    * Listings don't count as drawn cards.
+    */
+    private static void printListing() {
+        int first = 0;
+        int count = deck.size();
+        if (shownCategory >= 0) {
+            first = deck.getCategoryFirstCardIndex(shownCategory);
+            count = deck.getCategorySize(shownCategory);
+        }
+
+        CardPrinter printer = new CardPrinter(FLUSH_EACH_LINE);
+        engine.printCards(first, count, PRINT_CATEGORIES, printer);
+        printer.flush();
+    }
+
+   /**
+    * Initializes the shuffler based on the "--random"
+    * and "--seed" options. Without a seed, the cards
+    * are different on every run.
+    *
+    * @param options the options given in command line
+    * @returns will the main program be run
+    */
+    private static boolean initShuffler(RunOptions options) {
+        String generatorName =
+            options.get("random", DEFAULT_GENERATOR.getOptionName());
+        Shuffler.Generator generator =
+            Shuffler.Generator.forOptionName(generatorName);
+        if (generator == null) {
+            System.out.println(text("error.unknownGenerator", generatorName));
+            return false;
+        }
+
+        if (!options.has("seed")) {
+            shuffler = new Shuffler(generator);
+            return true;
+        }
+
+        try {
+            shuffler = new Shuffler(generator, Long.parseLong(options.get("seed", "")));
+            return true;
+        }
+        catch (NumberFormatException e) {
+            System.out.println(text("error.seedNotInteger"));
         }
+        catch (IllegalArgumentException e) {
+            System.out.println(text("error.generatorNotSeedable", generatorName));
+        }
+
+        return false;
+    }
+
+   /**
+    * Initializes weighted drawing based on the "--weighted"
+    * option. Then each card is drawn in proportion to its
+    * weight instead of all cards being equally likely.
+    * "--weighted=dynamic" keeps the weights in a tree
+    * which allows changing them, e.g. while serving.
+    *
+    * @param options the options given in command line
+    * @returns will the main program be run
+    */
+    private static boolean initWeightedMode(RunOptions options) {
+        if (!options.has("weighted")) {
+            return true;
+        }
+
+        String weighting = options.get("weighted", "");
+        if (weighting.isEmpty() || weighting.equalsIgnoreCase("static")) {
+            cardWeights = deck.getAliasTable();
+        }
+        else if (weighting.equalsIgnoreCase("dynamic")) {
+            cardWeights = new DynamicWeights(deck);
+        }
+        else {
+            System.out.println(text("error.unknownWeighting", weighting));
+            return false;
+        }
+
+        return true;
+    }
+
+   /**
+    * Initializes drawing hands by categories based on the
+    * "--quota" option, e.g. "--quota=combat:2,items:1,world:1"
+    * for two Combat cards, one Items card and one World card.
+    * Without a value, a hand has one card from each category.
+    * Each hand is drawn from the whole deck.
+    *
+    * @param options the options given in command line
+    * @returns will the main program be run
+    */
+    private static boolean initCategoryQuota(RunOptions options) {
+        if (!options.has("quota")) {
+            return true;
+        }
+
+        if (cardWeights != null) {
+            System.out.println(text("error.quotaWithWeights"));
+            return false;
+        }
+
+        String quota = options.get("quota", "");
+        try {
+            categoryQuota = quota.isEmpty() ?
+                CategoryQuota.oneOfEach(deck) : CategoryQuota.parse(deck, quota);
+            return true;
+        }
+        catch (IllegalArgumentException e) {
+            System.out.println(text("error.invalidQuota", e.getMessage()));
+        }
+
+        return false;
+    }
+
+   /**
+    * Initializes sorting the cards of each hand based on
+    * the "--sort" option: "category" sorts the cards by
+    * their categories, "name" by their names in the order
+    * of the language and "none" keeps the drawn order.
+    *
+    * @param options the options given in command line
+    * @returns will the main program be run
+    */
+    private static boolean initSortOrder(RunOptions options) {
+        String orderName = options.get("sort", HandSorter.Order.NONE.getOptionName());
+        HandSorter.Order order = HandSorter.Order.forOptionName(orderName);
+        if (order == null) {
+            System.out.println(text("error.unknownSortOrder", orderName));
+            return false;
+        }
+
+        if (order != HandSorter.Order.NONE) {
+            handSorter = new HandSorter(deck, order, Locale.forLanguageTag(language.getCode()));
+        }
+        return true;
+    }
+
+   /**
+    * Initializes parallel hand generation based on the
+    * "--parallel" and "--threads" options. In parallel,
+    * each hand is drawn from a freshly shuffled deck.
+    *
+    * @param options the options given in command line
+    * @returns will the main program be run
+    */
+    private static boolean initParallelMode(RunOptions options) {
+        if (!options.has("parallel") && !options.has("threads")) {
+            return true;
+        }
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        if (options.has("threads")) {
+            try {
+                threads = Integer.parseInt(options.get("threads", ""));
+            }
+            catch (NumberFormatException e) {
+                threads = 0;
+            }
+
+            if (threads < 1) {
+                System.out.println(text("error.threadsNotPositive"));
+                return false;
+            }
+        }
+
+        generatorPool = new ForkJoinPool(threads);
+        return true;
+    }
+
+   /**
+    * Initializes regenerating a single hand based on the
+    * "--hand" option. The hand is the same as the hand with
+    * the same number in a parallel run with the same seed.
+    *
+    * @param options the options given in command line
+    * @returns will the main program be run
+    */
+    private static boolean initRegeneratedHand(RunOptions options) {
+        if (!options.has("hand")) {
+            return true;
+        }
+
+        if (!options.has("seed")) {
+            System.out.println(text("error.handNeedsSeed"));
+            return false;
+        }
+
+        try {
+            regeneratedHand = Integer.parseInt(options.get("hand", "")) - 1;
+        }
+        catch (NumberFormatException e) {
+            regeneratedHand = -1;
+        }
+
+        if (regeneratedHand < 0) {
+            System.out.println(text("error.handNotPositive"));
+            return false;
+        }
+
+        return true;
+    }
+
+   /**
+    * Prints the cards whose names match the search query
+    * given after the "search" command. The search index
+    * is built when it is first needed and then reused.
+    * If nothing is found, misspelled words are corrected.
+    *
+    * @param cmdArgs the arguments given in command line
+    */
+    private static void searchCards(String[] cmdArgs) {
+        if (cmdArgs.length < 2) {
+            System.out.println(text("error.searchWordsMissing"));
+            return;
+        }
+
+        SearchIndex searchIndex = engine.getSearchIndex();
+        String query = String.join(" ", Arrays.copyOfRange(cmdArgs, 1, cmdArgs.length));
+        int[] cards = searchIndex.search(query);
+
+        // Corrects misspelled words if nothing was found
+        Map<String, String> corrections = new LinkedHashMap<String, String>();
+        if (cards.length == 0) {
+            cards = searchIndex.search(query, corrections);
+        }
+        if (cards.length == 0) {
+            System.out.println(text("noCardsFound"));
+            return;
+        }
+
+        CardPrinter printer = new CardPrinter(FLUSH_EACH_LINE);
+        if (!corrections.isEmpty()) {
+            StringBuilder corrected = new StringBuilder(text("showingResultsFor")).append(' ');
+            for (Map.Entry<String, String> correction : corrections.entrySet()) {
+                corrected.append(correction.getKey()).append(" -> ")
+                    .append(correction.getValue()).append(' ');
+            }
+            printer.printLine(corrected.toString().trim());
+        }
+        int indexWidth = CardPrinter.indexWidth(cards.length);
+        for (int i = 0; i < cards.length; i++) {
+            printer.printCard(i, indexWidth, deck, translation,
+                              cards[i], PRINT_CATEGORIES);
+        }
+        printer.endHand();
+        printer.printLine(text("cardsFound", cards.length));
+        printer.flush();
+    }
+
+   /**
+    * Runs commands read from the standard input one line at
+    * a time. The deck stays loaded between the commands, and
+    * drawn cards are not drawn again until the deck is shuffled.
+    */
+    private static void runInteractive() {
+        if (interactive) {
+            return;
+        }
+
+        interactive = true;
+        System.out.println(text("interactiveMode"));
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in));
+        try {
+            while (true) {
+                System.out.print("> ");
+                System.out.flush();
+                String line = in.readLine();
+                if (line == null) {
+                    break;
+                }
+                else if (line.isBlank()) {
+                    continue;
+                }
+
+                String[] cmdArgs = line.trim().split("\\s+");
+                String command = cmdArgs[0];
+
+                // Quit
+                if (language.isWord("repl.quit", command)) {
+                    break;
+                }
+                // Shuffle the deck, including the drawn cards
+                else if (language.isWord("repl.shuffle", command)) {
+                    session.shuffle();
+                    System.out.println(text("deckShuffled"));
+                }
+                // Show how many cards have not been drawn
+                else if (language.isWord("repl.left", command)) {
+                    System.out.println(text("cardsLeft", session.getRemainingCount()));
+                }
+                // Any command line command
+                else {
+                    showAll = false;
+                    shownCategory = -1;
+                    handAmount = 0;
+                    cardsInHand = 0;
+                    runCommand(cmdArgs);
+                }
+            }
+        }
+        catch (IOException e) {
+            System.out.println(text("error.inputNotRead", e.getMessage()));
+        }
+
+        interactive = false;
+    }
+
+   /**
+    * Starts serving hands over HTTP. The port is given after
+    * the "serve" command and the server runs until the
+    * program is stopped.
+    *
+    * @param cmdArgs the arguments given in command line
+    */
+    private static void startServer(String[] cmdArgs) {
+        int port = DEFAULT_PORT;
+        if (cmdArgs.length > 1) {
+            try {
+                port = Integer.parseInt(cmdArgs[1]);
+            }
+            catch (NumberFormatException e) {
+                port = -1;
+            }
+
+            if (port < 0 || port > 65535) {
+                System.out.println(text("error.portOutOfRange"));
+                return;
+            }
+        }
+
+        HandServer server = new HandServer(engine, language, PRINT_CATEGORIES, shuffler);
+        try {
+            server.start(port);
+            System.out.println(text("serving", server.getPort()));
+        }
+        catch (IOException e) {
+            System.out.println(text("error.serverNotStarted", e.getMessage()));
+        }
+    }
+
+   /**
+    * Generates and prints the hands in parallel.
+    */
+    private static void generateHandsInParallel() {
+        CardPrinter printer = new CardPrinter(FLUSH_EACH_LINE);
+        engine.newGenerator(PRINT_CATEGORIES, generatorPool)
+            .generate(handAmount, cardsInHand, shuffler, printer);
+        printer.flush();
+        generatorPool.shutdown();
+    }
+
+   /**
+    * Generates and prints the hand chosen with the "--hand" option.
+    */
+    private static void regenerateHand() {
+        CardPrinter printer = new CardPrinter(FLUSH_EACH_LINE);
+        engine.newGenerator(PRINT_CATEGORIES, null)
+            .generateHand(regeneratedHand, cardsInHand, shuffler, printer);
+        printer.flush();
+        if (generatorPool != null) {
+            generatorPool.shutdown();
+        }
+    }
+
+   /**
+    * Draws and prints hands by the category quota. The hands
+    * continue the numbering of the shuffles, so they are the
+    * same as the hands with the same numbers in a parallel run.
+    */
+    private static void printQuotaHands() {
+        CardPrinter printer = new CardPrinter(FLUSH_EACH_LINE);
+        engine.newGenerator(PRINT_CATEGORIES, null)
+            .printHands(session.reserveHands(handAmount), handAmount,
+                        cardsInHand, shuffler, printer);
+        printer.flush();
     }
 
    /**
@@ -145,31 +623,56 @@ public class CardArchive {
     */
     private static boolean parseSpecialCommands(String[] cmdArgs) {
         if (cmdArgs.length > 0) {
-            String firstCommand = cmdArgs[0].toLowerCase();
+            String firstCommand = cmdArgs[0];
 
             // Show all cards
-            if (firstCommand.equals("all")) {
+            if (language.isCommand("command.all", firstCommand)) {
                 showAll = true;
                 return true;
             }
             // Show only cards that belong to a certain category
-            else if (firstCommand.equals("category") || firstCommand.equals("cat")) {
+            else if (language.isCommand("command.category", firstCommand)) {
                 return parseShowCategoryCommand(cmdArgs);
             }
             // Show deck stats
-            else if (firstCommand.equals("stats") || firstCommand.equals("info")) {
+            else if (language.isCommand("command.stats", firstCommand)) {
                 printStats();
                 return false;
             }
+            // Search cards by the words in their names
+            else if (language.isCommand("command.search", firstCommand)) {
+                searchCards(cmdArgs);
+                return false;
+            }
+            // Run commands interactively
+            else if (language.isCommand("command.interactive", firstCommand)) {
+                runInteractive();
+                return false;
+            }
+            // Serve hands over HTTP
+            else if (language.isCommand("command.serve", firstCommand)) {
+                startServer(cmdArgs);
+                return false;
+            }
             // Show instructions
-            else if (firstCommand.equals("help") || firstCommand.equals("?")) {
+            else if (language.isCommand("command.help", firstCommand)) {
                 printInstructions();
                 return false;
             }
             // Show only cards that belong to a certain category
             else {
-                int categoryNumber = categoryNumber(firstCommand);
+                int categoryNumber = categoryNumber(cmdArgs[0]);
+                if (categoryNumber >= 0) {
+                    printAmbiguousCategory(cmdArgs[0], categoryNumber);
+                    shownCategory = categoryNumber;
+                    return true;
+                }
+
+                // Looks for a misspelled category name
+                categoryNumber = deck.getCategoryIndex().findSimilar(cmdArgs[0]);
                 if (categoryNumber >= 0) {
+                    System.out.println(text("misspelledCategory",
+                        cmdArgs[0], categoryName(categoryNumber)));
                     shownCategory = categoryNumber;
                     return true;
                 }
@@ -187,35 +690,22 @@ public class CardArchive {
     * - current program version and credits.
     */
     private static void printStats() {
-        System.out.println("Cards: " + deck.size());
-        System.out.println("Categories: " + categorySizes.size());
-        for (int i = 0; i < categorySizes.size(); i++) {
-            System.out.format("[%d. %s] size: %d\n",
-                i, categoryName(i), categorySizes.get(i));
+        System.out.println(text("stats.cards", deck.size()));
+        System.out.println(text("stats.categories", deck.getCategoryCount()));
+        for (int i = 0; i < deck.getCategoryCount(); i++) {
+            System.out.println(text("stats.category",
+                i, categoryName(i), deck.getCategorySize(i)));
         }
 
-        System.out.println("\nCurrent program version: " + PROGRAM_VERSION);
-        System.out.println("Created by Lauri Kosonen");
+        System.out.println(text("stats.version", text("program.version")));
+        System.out.println(text("stats.author"));
     }
 
    /**
     * Prints instructions on how to use this program.
     */
     private static void printInstructions() {
-        System.out.println("How to use this program:");
-        System.out.println("- Execute in command line by writing the command in this format: java CardArchive argument1 argument2");
-        System.out.println("- Leave arguments out to run the program using the default settings");
-        System.out.println("- Possible arguments:");
-        System.out.println("  - Input one number to view that many cards");
-        System.out.println("  - Input two numbers to view that many hands and cards in each hand");
-        System.out.println("  - Input a category's name to view the cards in it");
-        System.out.println("  - Input \"category\" or \"cat\" followed by a category number to view the cards in it");
-        System.out.println("  - Input \"all\" to view all cards");
-        System.out.println("  - Input \"stats\" or \"info\" to see how many cards and what categories there are");
-        System.out.println("  - Input \"help\" or \"?\" to see these instructions");
-        System.out.println("- Press the Enter key to run the program");
-        System.out.println("- Press the Up arrow key to insert the previous command to eliminate unnecessary retyping");
-        System.out.println("- With each run you get different results depending on the arguments");
+        System.out.println(text("help"));
     }
 
    /**
@@ -234,23 +724,21 @@ public class CardArchive {
         if (cmdArgs.length > 1) {
             try {
                 int input = Integer.parseInt(cmdArgs[1]);
-                if (input >= 0 && input < categorySizes.size()) {
+                if (input >= 0 && input < deck.getCategoryCount()) {
                     shownCategory = input;
                     return true;
                 }
                 else {
-                    System.out.format("The category number must be between 0 and %d (inclusive).\n",
-                        categorySizes.size() - 1);
+                    System.out.println(text("error.categoryOutOfRange",
+                        deck.getCategoryCount() - 1));
                 }
             }
             catch (NumberFormatException e) {
-                System.out.println("Please input \"category\" or \"cat\" followed by " +
-                                   "a category number to view the cards in it.");
+                System.out.println(text("error.categoryNotNumber"));
             }
         }
         else {
-            System.out.println("Please input also a category's " +
-                               "number to view the cards in it.");
+            System.out.println(text("error.categoryMissing"));
         }
 
         return false;
@@ -270,9 +758,42 @@ public class CardArchive {
         // Displays all cards of a certain category
         if (shownCategory >= 0) {
             handAmount = 1;
-            cardsInHand = categorySizes.get(shownCategory);
+            cardsInHand = deck.getCategorySize(shownCategory);
             if (cardsInHand == 0) {
-                System.out.println("The category is empty.");
+                System.out.println(text("categoryEmpty"));
+            }
+        }
+        // Draws hands by the category quota; the first number
+        // given is for the number of hands, and a second one
+        // must be the number of cards the quota gives
+        else if (categoryQuota != null && !showAll) {
+            handAmount = 1;
+            cardsInHand = categoryQuota.getCardCount();
+            int givenCardsInHand = cardsInHand;
+            try {
+                if (cmdArgs.length > 0) {
+                    handAmount = Integer.parseInt(cmdArgs[0]);
+                }
+                if (cmdArgs.length > 1) {
+                    givenCardsInHand = Integer.parseInt(cmdArgs[1]);
+                }
+            }
+            catch (NumberFormatException e) {
+                System.out.println(text("error.invalidInput"));
+                printInstructions();
+                handAmount = 0;
+                return;
+            }
+
+            if (givenCardsInHand != cardsInHand) {
+                System.out.println(text("error.quotaHandSize", cardsInHand));
+                handAmount = 0;
+                return;
+            }
+
+            if (handAmount < 1) {
+                System.out.println(text("error.handsNotPositive"));
+                handAmount = 0;
             }
         }
         // Attempts to parse the input into two integers and
@@ -299,7 +820,7 @@ public class CardArchive {
                     }
                 }
                 catch (NumberFormatException e) {
-                    System.out.println("The given input is not valid.\n");
+                    System.out.println(text("error.invalidInput"));
                     printInstructions();
                     handAmount = 0;
                     cardsInHand = 0;
@@ -307,16 +828,14 @@ public class CardArchive {
                 }
 
                 if (handAmount < 1 || cardsInHand < 1) {
-                    System.out.println("Please input two positive integers.");
+                    System.out.println(text("error.notPositive"));
                     handAmount = 0;
                     cardsInHand = 0;
                 }
                 else if (cardsInHand > deck.size() ||
-                         (!SHUFFLE_DECK_FOR_EACH_HAND &&
-                          handAmount > deck.size())) {
-                    System.out.format("Invalid input - the deck has %d cards.",
-                        deck.size());
-                    System.out.println();
+                         (!SHUFFLE_DECK_FOR_EACH_HAND && generatorPool == null &&
+                          regeneratedHand < 0 && handAmount > deck.size())) {
+                    System.out.println(text("error.deckTooSmall", deck.size()));
                     handAmount = 0;
                     cardsInHand = 0;
                 }
@@ -332,26 +851,41 @@ public class CardArchive {
    /**
     * Returns a category's number based on the given name.
     * Returns -1 if the name doesn't match with any category.
-    * Only the first 3 letters are checked,
-    * so the argument can be shortened.
+    * If the name isn't a category's full name, only the first
+    * 3 letters are checked, so the argument can be shortened.
     *
     * @param categoryName a category's name
     * @return the number of a category or -1 for error
     */
     public static int categoryNumber(String categoryName) {
-        if (categoryName != null && categoryName.length() >= 3) {
-            categoryName = categoryName.toLowerCase().substring(0, 3);
-
-            for (int i = 0; i < categorySizes.size(); i++) {
-                String catCandidate =
-                    categoryName(i).toLowerCase().substring(0, 3);
-                if (categoryName.equals(catCandidate)) {
-                    return i;
-                }
+        return deck.getCategoryIndex().find(categoryName);
+    }
+
+   /**
+    * Tells which categories the given name could mean
+    * if it isn't a full name and its first three letters
+    * begin several categories' names.
+    *
+    * @param categoryName   the given name
+    * @param category       the category which is shown
+    */
+    private static void printAmbiguousCategory(String categoryName, int category) {
+        CategoryIndex index = deck.getCategoryIndex();
+        if (index.findByName(categoryName) != CategoryIndex.NOT_FOUND ||
+            !index.isAmbiguousPrefix(categoryName)) {
+            return;
+        }
+
+        StringBuilder matches = new StringBuilder();
+        for (int i = category; i != CategoryIndex.NOT_FOUND; i = index.nextWithSamePrefix(i)) {
+            if (matches.length() > 0) {
+                matches.append(", ");
             }
+            matches.append(categoryName(i));
         }
 
-        return -1;
+        System.out.println(text("ambiguousCategory",
+            categoryName.substring(0, CategoryIndex.PREFIX_LENGTH), matches, categoryName(category)));
     }
 
    /**
@@ -361,723 +895,120 @@ public class CardArchive {
     * @return the name of a category or an error string
     */
     public static String categoryName(int categoryNumber) {
-        switch (categoryNumber) {
-            case 0: {
-                return "Group";
-            }
-            case 1: {
-                return "World";
-            }
-            case 2: {
-                return "Influence";
-            }
-            case 3: {
-                return "Character";
-            }
-            case 4: {
-                return "Navigation";
-            }
-            case 5: {
-                return "Thinking";
-            }
-            case 6: {
-                return "Combat";
-            }
-            case 7: {
-                return "Abilities";
-            }
-            case 8: {
-                return "Items";
-            }
-            case 9: {
-                return "Goal";
-            }
-            case 10: {
-                return "Audio & Visuals";
-            }
-            case 11: {
-                return "Miscellaneous";
-            }
-
-            // Prints an error message if the
-            // category's number is out of limits
-            default: {
-                return "ERROR";
-            }
+        if (categoryNumber >= 0 && categoryNumber < deck.getCategoryCount()) {
+            return deck.getCategoryName(categoryNumber);
         }
-    }
 
-   /**
-    * Creates the deck.
-    */
-    private static void initDeck() {
-        deck = new ArrayList<Card>();
-        categorySizes = new ArrayList<Integer>();
-        categoryFirstCardIndexes = new ArrayList<Integer>();
-
-        // Group
-        initCard(0, "Multiplayer");
-        initCard(0, "Local multiplayer");
-        initCard(0, "Co-op/versus game");
-        initCard(0, "Asymmetrical multiplayer");
-        initCard(0, "Asynchronous multiplayer");
-        initCard(0, "Players start at different times");
-        initCard(0, "Other players can join and leave anytime");
-        initCard(0, "Game master");
-        initCard(0, "Mentor");
-        initCard(0, "Referee");
-        initCard(0, "Player guilds");
-        initCard(0, "Faction war");
-        initCard(0, "Membership in different groups");
-        initCard(0, "Rising through the ranks");
-        initCard(0, "Commanding players/units");
-        initCard(0, "Recruiting characters/units");
-        initCard(0, "Converting enemies to the player's team");
-        initCard(0, "Dead players change teams");
-        initCard(0, "Temporary alliance against a common threat");
-        initCard(0, "Betraying one's own team");
-        initCard(0, "Being undercover as a member of a different team");
-        initCard(0, "Summonable allies");
-        initCard(0, "AI-controlled sidekick/companion/pet");
-        initCard(0, "AI-controlled minions");
-        initCard(0, "Unusual form of communication");
-        initCard(0, "Leaving messages for others");
-        initCard(0, "Speaking to a crowd");
-        initCard(0, "Family");
-        initCard(0, "Crowd/horde");
-        initCard(0, "Hive mind");
-        initCard(0, "Secret society");
-        // World
-        initCard(1, "Open world");
-        initCard(1, "Exploration");
-        initCard(1, "Day-night cycle");
-        initCard(1, "Changing weather");
-        initCard(1, "Wildlife");
-        initCard(1, "Large height differences");
-        initCard(1, "Long distances");
-        initCard(1, "Vast emptiness");
-        initCard(1, "Confined spaces");
-        initCard(1, "Underground tunnels");
-        initCard(1, "Rolling hills");
-        initCard(1, "Alien landscape");
-        initCard(1, "Bleak or hostile landscape");
-        initCard(1, "Abandoned place/object");
-        initCard(1, "Impossible environment");
-        initCard(1, "Parallel worlds");
-        initCard(1, "Safety indoors, danger outdoors");
-        initCard(1, "Environmental hazards");
-        initCard(1, "Hazards rain from above");
-        initCard(1, "Flood");
-        initCard(1, "Burning heat");
-        initCard(1, "Freezing cold");
-        initCard(1, "Deadly gas/liquid/radiation");
-        initCard(1, "Invisible walls or platforms");
-        initCard(1, "Barriers that only let specific things through");
-        initCard(1, "Randomly generated area");
-        initCard(1, "Secret areas");
-        initCard(1, "Fog of war");
-        initCard(1, "Checkpoints");
-        initCard(1, "Hub area");
-        initCard(1, "Optional collectibles");
-        initCard(1, "Optional activities");
-        initCard(1, "Random events");
-        initCard(1, "The world lives even if the player is away");
-        // Influence
-        initCard(2, "Controlling an area");
-        initCard(2, "Reshaping the environment");
-        initCard(2, "The environment reshapes itself");
-        initCard(2, "Destroying objects/environment");
-        initCard(2, "Level editor");
-        initCard(2, "Base building");
-        initCard(2, "Home decoration");
-        initCard(2, "Founding cities or other settlements");
-        initCard(2, "Affecting the ecosystem");
-        initCard(2, "Areas can be made safe");
-        initCard(2, "Some rules can be broken, intentionally or not");
-        initCard(2, "Factions and reputation");
-        initCard(2, "Research and technology");
-        initCard(2, "Getting feedback from advisors/citizens/customers");
-        initCard(2, "Keeping people happy");
-        initCard(2, "Participating in politics");
-        initCard(2, "Voting on subjects");
-        initCard(2, "Court of law");
-        initCard(2, "Running a business");
-        initCard(2, "Player-driven economy");
-        initCard(2, "Adding things to walls");
-        initCard(2, "Creating traps/obstacles/barricades");
-        initCard(2, "Creating climbable surfaces");
-        initCard(2, "Creating roads for faster travel");
-        initCard(2, "Vehicle customization");
-        initCard(2, "Automating tasks");
-        initCard(2, "Rerouting power to different systems");
-        initCard(2, "Dead/frozen characters remain as parts of the environment");
-        // Character
-        initCard(3, "Character customization");
-        initCard(3, "Leveling up");
-        initCard(3, "Skill tree");
-        initCard(3, "Character classes");
-        initCard(3, "Multiple controllable characters/units");
-        initCard(3, "No controllable characters");
-        initCard(3, "Looking after the character's needs");
-        initCard(3, "The character's feelings");
-        initCard(3, "Growing up");
-        initCard(3, "Religion");
-        initCard(3, "Karma system");
-        initCard(3, "Personality quirks");
-        initCard(3, "Power-ups and downs");
-        initCard(3, "Blessings and curses");
-        initCard(3, "Diseases and cures");
-        initCard(3, "Insanity");
-        initCard(3, "Imprisonment");
-        initCard(3, "Fall damage");
-        initCard(3, "Ragdoll physics");
-        initCard(3, "Buying levels/skills/power");
-        initCard(3, "Disguises");
-        initCard(3, "Changing form");
-        initCard(3, "Spirit form");
-        initCard(3, "Beast form");
-        initCard(3, "Biological enhancements");
-        initCard(3, "Mechanical/cybernetic enhancements");
-        initCard(3, "Divine/unholy enhancements");
-        initCard(3, "The character's size is important");
-        initCard(3, "The character's appearance influences gameplay");
-        initCard(3, "The character's disability influences gameplay");
-        // Navigation
-        initCard(4, "Platforming/climbing");
-        initCard(4, "Fast travel/teleportation");
-        initCard(4, "Limited mobility/movement points");
-        initCard(4, "Speed");
-        initCard(4, "Quick downhill movement");
-        initCard(4, "Grinding on rails");
-        initCard(4, "Grabbing onto walls and ceiling");
-        initCard(4, "Swinging on ropes or such");
-        initCard(4, "Pole vaulting");
-        initCard(4, "Wall running");
-        initCard(4, "Rolling/spinning/orbiting");
-        initCard(4, "Jumping on falling objects");
-        initCard(4, "On-rails action");
-        initCard(4, "Backtracking");
-        initCard(4, "Shortcuts");
-        initCard(4, "Vehicles");
-        initCard(4, "Summonable vehicles");
-        initCard(4, "Operating a vehicle as a team");
-        initCard(4, "Being a passenger in a vehicle");
-        initCard(4, "Boarding vehicles as a stowaway");
-        initCard(4, "Riding");
-        initCard(4, "Swimming");
-        initCard(4, "Diving");
-        initCard(4, "Gliding");
-        initCard(4, "Flying");
-        initCard(4, "Burrowing through the ground");
-        initCard(4, "Sea travel");
-        initCard(4, "Space travel");
-        initCard(4, "Rail transport");
-        initCard(4, "Traffic");
-        initCard(4, "Smuggling");
-        initCard(4, "Shipwreck");
-        initCard(4, "The planet's curvature influences gameplay");
-        // Thinking
-        initCard(5, "Puzzles");
-        initCard(5, "Using certain tools/skills on certain objects");
-        initCard(5, "Revisiting areas/levels with new tools/skills");
-        initCard(5, "Repeating past events/levels with new knowledge");
-        initCard(5, "Scouting an area before entering");
-        initCard(5, "Physics-based gameplay");
-        initCard(5, "Unusual gravity");
-        initCard(5, "Witnessing past/future events");
-        initCard(5, "The four classical elements");
-        initCard(5, "Redirecting beams of light");
-        initCard(5, "Making two ends connect");
-        initCard(5, "Swapping characters'/objects' positions");
-        initCard(5, "Conversation options");
-        initCard(5, "Moral choices");
-        initCard(5, "Making a deal");
-        initCard(5, "Exchanging health for something");
-        initCard(5, "Exchanging freedom for something");
-        initCard(5, "Database/journal/bestiary");
-        initCard(5, "Item descriptions");
-        initCard(5, "Examining documents or recordings");
-        initCard(5, "Examining the environment's details");
-        initCard(5, "Unexplained items and contraptions");
-        initCard(5, "Taking notes is recommended");
-        initCard(5, "Detective work");
-        initCard(5, "Deciphering clues");
-        initCard(5, "Passcodes and encrypted messages");
-        initCard(5, "Programming/hacking");
-        initCard(5, "Pattern recognition");
-        initCard(5, "Memorization");
-        initCard(5, "Truth and lies");
-        initCard(5, "Pulling and pushing");
-        initCard(5, "Doors and keys");
-        initCard(5, "Switches");
-        initCard(5, "Quiz");
-        // Combat
-        initCard(6, "Combat");
-        initCard(6, "Aerial combat");
-        initCard(6, "Naval combat");
-        initCard(6, "Space combat");
-        initCard(6, "Mech combat");
-        initCard(6, "Martial arts");
-        initCard(6, "Stun attacks");
-        initCard(6, "Damage-over-time attacks");
-        initCard(6, "Explosive attacks");
-        initCard(6, "Combo attacks");
-        initCard(6, "Melee weapons");
-        initCard(6, "Throwing weapons and picking them up again");
-        initCard(6, "Ranged weapons and ammunition");
-        initCard(6, "Target-locking weapons");
-        initCard(6, "Mines");
-        initCard(6, "Sniping from a long distance");
-        initCard(6, "Assassination");
-        initCard(6, "Pushing enemies off ledges");
-        initCard(6, "Dodging attacks");
-        initCard(6, "Deflecting attacks");
-        initCard(6, "Friendly fire");
-        initCard(6, "Weaknesses and resistances to attacks");
-        initCard(6, "Focusing attacks on certain parts of the target");
-        initCard(6, "Weapons can be found in the world");
-        initCard(6, "Equipped weapon changes after getting a kill");
-        initCard(6, "Using objects in the world as ammunition");
-        initCard(6, "Permanent death");
-        initCard(6, "No respawning until the round/wave ends");
-        initCard(6, "Boss enemy");
-        initCard(6, "Stealthy enemies");
-        initCard(6, "Exploding enemies");
-        initCard(6, "Regenerating enemies");
-        initCard(6, "Enemies which spawn more enemies");
-        initCard(6, "Enemies which give power-ups to others");
-        initCard(6, "Enemies which won't attack unless provoked");
-        initCard(6, "Weak, fleeing enemies with good loot");
-        initCard(6, "Enemy waves");
-        initCard(6, "Enemies spawn constantly");
-        initCard(6, "Enemies alert others of the player");
-        initCard(6, "Enemies can't leave their territories");
-        // Abilities
-        initCard(7, "Abilities with cooldowns");
-        initCard(7, "Wielding magic");
-        initCard(7, "Psychic abilities");
-        initCard(7, "Levitating objects");
-        initCard(7, "Mind control");
-        initCard(7, "Cloning");
-        initCard(7, "Necromancy");
-        initCard(7, "Manipulating time");
-        initCard(7, "Recording and playing back actions");
-        initCard(7, "Electricity/lightning");
-        initCard(7, "Shield/invulnerability");
-        initCard(7, "Invisibility");
-        initCard(7, "Stealth/hiding");
-        initCard(7, "Regenerating health");
-        initCard(7, "Healing teammates");
-        initCard(7, "Reviving fallen teammates");
-        initCard(7, "Respawning next to a teammate");
-        initCard(7, "Second wind revival");
-        initCard(7, "Grabbing onto characters");
-        initCard(7, "Catching thrown/flying objects");
-        initCard(7, "Capturing characters/creatures");
-        initCard(7, "Absorbing everything to oneself");
-        initCard(7, "Characters/objects can fuse and form a single entity");
-        initCard(7, "Transfering one's mind into a different body");
-        initCard(7, "Reincarnating as a different being");
-        initCard(7, "Haunting");
-        initCard(7, "Drawing");
-        initCard(7, "Photography");
-        initCard(7, "Marking targets");
-        initCard(7, "Special sight ability");
-        initCard(7, "Looking at/away from something causes an effect");
-        initCard(7, "Being affected by staying close to certain things");
-        initCard(7, "Something happens only if the player moves");
-        initCard(7, "A character/an object can go through walls");
-        initCard(7, "Crashing into things");
-        initCard(7, "Objects bounce off surfaces");
-        initCard(7, "Fixing objects in place");
-        initCard(7, "Losing abilities or items is necessary to progress");
-        // Items
-        initCard(8, "Inventory");
-        initCard(8, "Finding items");
-        initCard(8, "Crafting");
-        initCard(8, "Buying and selling");
-        initCard(8, "Trading");
-        initCard(8, "Gifts");
-        initCard(8, "Brewing potions");
-        initCard(8, "Poisons and antidotes");
-        initCard(8, "Phone/walkie-talkie");
-        initCard(8, "Binoculars/spyglass");
-        initCard(8, "Grappling hook");
-        initCard(8, "Repair tool");
-        initCard(8, "Excavation tool");
-        initCard(8, "Landscaping/farming tools");
-        initCard(8, "Musical instruments");
-        initCard(8, "Earning or paying salary");
-        initCard(8, "Cash as an inventory item");
-        initCard(8, "World map as an inventory item");
-        initCard(8, "Maps show special information");
-        initCard(8, "Inventory as an in-world object");
-        initCard(8, "Lore items");
-        initCard(8, "Decoy items");
-        initCard(8, "Breadcrumb trail items");
-        initCard(8, "Leaving items behind as bait");
-        initCard(8, "Storing items within the world");
-        initCard(8, "Fillable containers");
-        initCard(8, "Item rarity levels");
-        initCard(8, "Limited item durability");
-        initCard(8, "Breaking items down to their components");
-        initCard(8, "Dead characters drop their equipment");
-        initCard(8, "Taking enemies' equipment");
-        initCard(8, "Items have random stats");
-        initCard(8, "Items can be enhanced by adding trinkets");
-        initCard(8, "Items can be enhanced by using them");
-        initCard(8, "Items can be enhanced by crafting/magic");
-        initCard(8, "Renewable resources/items in the world");
-        initCard(8, "Scarcity of resources");
-        initCard(8, "Equipment transmogrification");
-        initCard(8, "Factions use different gear, currencies or vehicles");
-        // Goal
-        initCard(9, "Competition");
-        initCard(9, "Leaderboard");
-        initCard(9, "Tournament with multiple matches");
-        initCard(9, "Score");
-        initCard(9, "Quests");
-        initCard(9, "Education");
-        initCard(9, "Racing");
-        initCard(9, "Doing stunts");
-        initCard(9, "Rhythm action");
-        initCard(9, "Strategy game");
-        initCard(9, "Tycoon game");
-        initCard(9, "God game");
-        initCard(9, "Goals are decided by the player");
-        initCard(9, "The objective is not explicit");
-        initCard(9, "The objective's position is random");
-        initCard(9, "Failure changes the objective");
-        initCard(9, "Points can be stolen from the opponent");
-        initCard(9, "Outlasting the opponent");
-        initCard(9, "Surviving as long as possible");
-        initCard(9, "Evading obstacles");
-        initCard(9, "Reaching a point in the world");
-        initCard(9, "Escaping from something/somewhere");
-        initCard(9, "Finding a home or other safe place");
-        initCard(9, "Rescuing characters");
-        initCard(9, "Protecting a target");
-        initCard(9, "Defending an area");
-        initCard(9, "Taking an item to the goal");
-        initCard(9, "Delivering cargo/a payload");
-        initCard(9, "Hiding something from the opponent");
-        initCard(9, "Keeping balance");
-        initCard(9, "Special challenges");
-        initCard(9, "Daily challenges");
-        initCard(9, "Different game modes");
-        initCard(9, "King of the Hill");
-        initCard(9, "Capture the Flag");
-        initCard(9, "Team Deathmatch");
-        initCard(9, "Free-for-All");
-        initCard(9, "Last Man Standing");
-        initCard(9, "Sandbox mode with unlimited resources");
-        // Audio & Visuals
-        initCard(10, "2D");
-        initCard(10, "3D");
-        initCard(10, "First-person view");
-        initCard(10, "Third-person view");
-        initCard(10, "Side-scrolling view");
-        initCard(10, "Top-down view");
-        initCard(10, "Isometric view");
-        initCard(10, "Virtual reality");
-        initCard(10, "Augmented reality");
-        initCard(10, "Sounds/voices are important");
-        initCard(10, "Colors are important");
-        initCard(10, "Light and darkness");
-        initCard(10, "Minimal or no HUD");
-        initCard(10, "Audio/visual cues for nearby hazards");
-        initCard(10, "Enemy health is displayed");
-        initCard(10, "Seeing through another player's eyes");
-        initCard(10, "Seeing characters/objects through walls");
-        initCard(10, "Characters'/objects' paths are visualized");
-        initCard(10, "The game camera cannot be freely moved");
-        initCard(10, "Limited vision");
-        initCard(10, "Limited hearing");
-        initCard(10, "Enhanced hearing");
-        initCard(10, "A guiding arrow/line");
-        initCard(10, "Voice acting");
-        initCard(10, "Narrator");
-        initCard(10, "In-game music player for the soundtrack");
-        initCard(10, "Creating sounds or music");
-        // Miscellaneous
-        initCard(11, "Mobile game");
-        initCard(11, "Motion controls");
-        initCard(11, "Unusual controls");
-        initCard(11, "The gameplay relies on the mouse cursor");
-        initCard(11, "The controls consist of only one or two buttons");
-        initCard(11, "The core gameplay loop lasts only a minute or less");
-        initCard(11, "Turn-based gameplay");
-        initCard(11, "Word game");
-        initCard(11, "Board game");
-        initCard(11, "Cards");
-        initCard(11, "Gambling");
-        initCard(11, "Chance and probability");
-        initCard(11, "Crime and punishment");
-        initCard(11, "A made-up language");
-        initCard(11, "Naming a character, place or an object");
-        initCard(11, "Farming");
-        initCard(11, "Hunting");
-        initCard(11, "Cooking");
-        initCard(11, "Limited tries/lives");
-        initCard(11, "Save points");
-        initCard(11, "Saving the game anytime");
-        initCard(11, "New game +");
-        initCard(11, "Being defeated makes the threat more difficult");
-        initCard(11, "The game only ends in the player's failure");
-        initCard(11, "Configurable gameplay variables");
-        initCard(11, "Random gameplay modifiers");
-        initCard(11, "Comedy");
-        initCard(11, "Drama");
-        initCard(11, "Romance");
-        initCard(11, "Musical");
-        initCard(11, "Mystery");
-        initCard(11, "Thriller");
-        initCard(11, "Horror");
+        // Returns an error string if the
+        // category's number is out of limits
+        return "ERROR";
     }
 
    /**
-    * Initializes a card.
+    * Chooses the language of the messages and cards based on
+    * the "--lang" option. Two languages separated by a plus,
+    * such as "en+fi", show the cards in both languages.
+    * The messages are in the first language. If the default
+    * language's messages are missing, English is used instead.
     *
-    * @param category    a category's index
-    * @param name        the card's name
+    * @param options            the options given in command line
+    * @param defaultLanguage    the default language's code
+    * @returns were the languages found
     */
-    private static void initCard(int category, String name) {
-
-        // Creates the card
-        deck.add(new Card(category, name));
-
-        // Adds the current category and all previous
-        // missing ones to the category size list; also
-        // records the index of the category's first card.
-        if (categorySizes.size() <= category) {
+    private static boolean initLanguages(RunOptions options, String defaultLanguage) {
+        language = Language.forCode(defaultLanguage);
+        if (language == null) {
+            // Falls back to English if the default language's
+            // messages are missing from the class path
+            language = Language.forCode(Language.ENGLISH);
+        }
+        if (language == null) {
+            // Without any messages even the error can't be localized
+            System.out.println("The messages could not be loaded: " +
+                String.format(Language.MESSAGE_FILE, Language.ENGLISH));
+            System.exit(EXIT_MESSAGES_MISSING);
+        }
 
-            // Missing categories
-            int categoryCount = categorySizes.size();
-            for (int i = 0; i < category - categoryCount; i++) {
-                categorySizes.add(0);
-                categoryFirstCardIndexes.add(-1);
-            }
+        String[] codes = options.get("lang", language.getCode())
+            .split(Pattern.quote(Language.BILINGUAL_SEPARATOR), -1);
+        if (codes.length > 2) {
+            return false;
+        }
 
-            // Current category
-            categorySizes.add(1);
-            categoryFirstCardIndexes.add(deck.size() - 1);
+        Language chosen = Language.forCode(codes[0]);
+        if (chosen == null) {
+            return false;
         }
-        // Increases the size of the current category and, if the category
-        // was empty, records the index of the category's first card
-        else {
-            int startingCategorySize = categorySizes.get(category);
-            categorySizes.set(category, startingCategorySize + 1);
+        language = chosen;
 
-            if (startingCategorySize == 0) {
-                categoryFirstCardIndexes.set(category, deck.size() - 1);
-            }
+        if (codes.length == 2) {
+            translationLanguage = Language.forCode(codes[1]);
+            return translationLanguage != null;
         }
-    }
 
-   /**
-    * Shuffles the deck.
-    */
-    private static void shuffleDeck() {
-        double rand;
-        Card temp;
-        for (int i = 0; i < deck.size(); i++) {
-            rand = Math.random();
-            int randCardIndex = (int) (rand * deck.size());
-            temp = deck.get(randCardIndex);
-            deck.set(randCardIndex, deck.get(i));
-            deck.set(i, temp);
-        }
-
-        drawnCardAmount = 0;
+        return true;
     }
 
    /**
-    * Takes a card from the deck and adds it to a hand.
+    * Creates the deck from the language's card file.
+    * The "--deck" option replaces the default card file.
     *
-    * @param handIndex  a hand's index
-    * @param cardIndex  a card's index
+    * @param options the options given in command line
     */
-    private static void drawCard(int handIndex, int cardIndex) {
-        if (handIndex < handAmount && cardIndex < cardsInHand) {
-            hands[handIndex].addCard(cardIndex, deck.get(drawnCardAmount));
-            drawnCardAmount++;
+    private static void initDeck(RunOptions options) {
+        try {
+            deck = new DeckLoader().load(options.get("deck", language.getDeckFile()));
         }
-    }
-
-   /**
-    * Takes a card which belongs a given category and adds it to a hand.
-    *
-    * @param handIndex  a hand's index
-    * @param cardIndex  a card's index
-    * @param category   a category's index
-    */
-    private static void drawCardInCategory(int handIndex, int cardIndex, int category) {
-        if (category >= 0 && category < categorySizes.size() &&
-             cardIndex < cardsInHand) {
-            hands[handIndex].addCard(cardIndex,
-                deck.get(categoryFirstCardIndexes.get(category) + cardIndex));
-            drawnCardAmount++;
+        catch (IOException e) {
+            System.out.println(text("error.deckNotLoaded", e.getMessage()));
+            deck = Deck.empty();
         }
     }
 
    /**
-    * Sorts the given hand by the cards' categories.
+    * Loads the cards' names in the second language if two
+    * languages were chosen. The translation shares the deck's
+    * categories and card indexes and only has its own names.
+    * A deck given with "--deck" has no matching translation,
+    * so it can't be shown in two languages.
     *
-    * @param hand   a hand
+    * @param options the options given in command line
+    * @returns will the main program be run
     */
-    private static void sortHandByCategory(Hand hand) {
-        for (int i = 0; i < cardsInHand; i++) {
-            int smallest = i;
-            for (int j = i + 1; j < cardsInHand; j++) {
-                if (hand.getCard(j).getCategory() <
-                      hand.getCard(smallest).getCategory()) {
-                    smallest = j;
-                }
-            }
-
-            Card temp = hand.getCard(i);
-            hand.setCard(i, hand.getCard(smallest));
-            hand.setCard(smallest, temp);
+    private static boolean initTranslation(RunOptions options) {
+        if (translationLanguage == null) {
+            return true;
         }
-    }
 
-   /**
-    * Returns the given card's category and name as a string.
-    *
-    * @param card   a card
-    * @return the card's category's and its own name
-    */
-    public static String cardCatAndName(Card card) {
-        return categoryName(card.getCategory()) +
-               " - " + card.getName();
-    }
-
-   /**
-    * Formats the index that is printed before a card's name.
-    * Depending on how many digits the last index has, adds
-    * spaces before the index number.
-    *
-    * @param cardIndex  the current card's index
-    * @param maxIndex   the last card's index
-    * @return formatted card index
-    */
-    private static String formatCardIndex(int cardIndex, int maxIndex) {
-        String formattedCardIndex = "";
-
-        // Presented list numbering starts from 1
-        cardIndex++;
-
-        int figuresInCardIndex = 1;
-        for (int i = cardIndex; i / 10 >= 1; i = i / 10) {
-            figuresInCardIndex++;
+        if (options.has("deck")) {
+            System.out.println(text("error.deckWithTranslation"));
+            return false;
         }
 
-        int figuresInMaxIndex = 1;
-        for (int j = maxIndex; j / 10 >= 1; j = j / 10) {
-            figuresInMaxIndex++;
+        try {
+            translation = deck.withNamesOf(
+                new DeckLoader().load(translationLanguage.getDeckFile()));
+            return true;
         }
-
-        for (int k = figuresInCardIndex; k < figuresInMaxIndex; k++) {
-            formattedCardIndex += " ";
+        catch (IOException e) {
+            System.out.println(text("error.deckNotLoaded", e.getMessage()));
+        }
+        catch (IllegalArgumentException e) {
+            System.out.println(text("error.differentDecks",
+                language.getCode(), translationLanguage.getCode()));
         }
 
-        formattedCardIndex += cardIndex + " - ";
-
-        return formattedCardIndex;
-    }
-}
-
-/**
- * An object which holds card information:
- * category (integer) and name (string).
- */
-class Card {
-    private int category;
-    private String name;
-
-   /**
-    * Gets the card's category.
-    *
-    * @return the card's category
-    */
-    public int getCategory() {
-        return category;
-    }
-
-   /**
-    * Gets the card's name.
-    *
-    * @return the card's name
-    */
-    public String getName() {
-        return name;
-    }
-
-   /**
-    * Class constructor.
-    *
-    * @param category   a category
-    * @param name       a name
-    */
-    public Card(int category, String name) {
-        this.category = category;
-        this.name = name;
-    }
-}
-
-/**
- * An object which stores drawn cards.
- */
-class Hand {
-    private Card[] cards;
-
-   /**
-    * Gets the amount of cards in the hand.
-    *
-    * @return the length of the cards array
-    */
-    public int getCardAmount() {
-        return cards.length;
-    }
-
-   /**
-    * Gets a card.
-    *
-    * @param cardIndex  the index of the card
-    * @return the card in the given index
-    */
-    public Card getCard(int cardIndex) {
-        return cards[cardIndex];
-    }
-
-   /**
-    * Sets a card.
-    *
-    * @param cardIndex  the index of the card
-    * @param card       the card to be set
-    */
-    public void setCard(int cardIndex, Card card) {
-        cards[cardIndex] = card;
-    }
-
-   /**
-    * Class constructor.
-    *
-    * @param cardAmount the number of cards in the hand
-    */
-    public Hand(int cardAmount) {
-        cards = new Card[cardAmount];
+        return false;
     }
 
    /**
-    * Adds a card to the hand.
+    * Returns a message in the chosen language.
     *
-    * @param cardIndex  the index of the card
-    * @param card       the card to be added
+    * @param key    the message's key
+    * @param args   the values of the message's format specifiers
+    * @return the message
     */
-    public void addCard(int cardIndex, Card card) {
-        if (cardIndex >= 0 && cardIndex < cards.length) {
-            cards[cardIndex] = card;
-        }
+    private static String text(String key, Object... args) {
+        return language.format(key, args);
     }
 }
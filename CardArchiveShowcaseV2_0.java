@@ -16,6 +16,7 @@ public class CardArchiveShowcaseV2_0 {
     private static final String PROGRAM_VERSION = "v2.0, 2019-01-06";
     private static final boolean SHUFFLE_DECK_FOR_EACH_HAND = false;
     private static final boolean PRINT_CATEGORIES = true;
+    private static final boolean FLUSH_EACH_LINE = false;
     private static List<Card> deck;
     private static Hand[] hands;
     private static List<Integer> categorySizes;
@@ -73,6 +74,10 @@ public class CardArchiveShowcaseV2_0 {
                     shuffleDeck();
                 }
 
+                // Composes the printed hands into
+                // large blocks instead of single lines
+                CardPrinter printer = new CardPrinter(FLUSH_EACH_LINE);
+
                 // Creates and checks the hands
                 hands = new Hand[handAmount];
                 for (int i = 0; i < handAmount; i++) {
@@ -90,23 +95,16 @@ public class CardArchiveShowcaseV2_0 {
                                 drawCardInCategory(i, j, shownCategory);
                             }
 
-                            // Prints the card's index number
-                            System.out.print(formatCardIndex(j, cardsInHand));
-
                             // Prints the current card
-                            if (hands[i].getCard(j) != null) {
-
-                                // Prints the card's category
-                                if (PRINT_CATEGORIES) {
-                                    System.out.print("[" + categoryName(
-                                        hands[i].getCard(j).getCategory()) + "] ");
-                                }
-
-                                // Prints the card's name
-                                System.out.println(hands[i].getCard(j).getName());
+                            Card card = hands[i].getCard(j);
+                            if (card != null) {
+                                printer.printCard(formatCardIndex(j, cardsInHand),
+                                    PRINT_CATEGORIES ? "[" + categoryName(card.getCategory()) + "] " : null,
+                                    card.getName());
                             }
                             else {
-                                System.out.println("< Card does not exist! >");
+                                printer.printCard(formatCardIndex(j, cardsInHand),
+                                    null, "< Card does not exist! >");
                             }
 
                             // Prevents further card adding and
@@ -117,14 +115,14 @@ public class CardArchiveShowcaseV2_0 {
 
                                 if (!showAll && (cardsInHand < deck.size()) &&
                                      (incompleteHand || SHUFFLE_DECK_FOR_EACH_HAND)) {
-                                    System.out.println("No more cards!");
+                                    printer.printLine("No more cards!");
                                 }
 
                                 break;
                             }
                         }
 
-                        System.out.println("------");
+                        printer.endHand();
 
                         if (SHUFFLE_DECK_FOR_EACH_HAND) {
                             shuffleDeck();
@@ -132,6 +130,8 @@ public class CardArchiveShowcaseV2_0 {
                         }
                     }
                 }
+
+                printer.flush();
             }
         }
     }
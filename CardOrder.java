@@ -0,0 +1,222 @@
+import java.util.Arrays;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * The order in which a deck's cards are drawn, kept
+ * apart from the deck as a permutation of card indexes.
+ *
+ * The deck itself is never shuffled, so listings and the
+ * categories' card ranges always read the deck's own order,
+ * while draws read the permutation on top of it. They can
+ * be mixed freely on the same deck without copying it, and
+ * any number of orders can share one deck.
+ *
+ * A lazy order isn't shuffled in advance. Instead, each
+ * drawn card is picked with one Fisher-Yates step from the
+ * cards not drawn yet. Only the positions which the steps
+ * have swapped are stored, in a small open addressing map,
+ * and every other position holds the deck's own card. So a
+ * lazy order costs O(1) to create and to shuffle and O(1)
+ * per drawn card no matter how large the deck is. Shuffling
+ * a lazy order starts the steps again from the deck's order.
+ * An eager order is an array shuffled completely at once.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class CardOrder {
+    private final int size;
+    private final boolean lazy;
+    private final int[] order;
+    private final Swaps swaps;
+    private final Swaps handSwaps;
+
+   /**
+    * Class constructor. The cards start in the deck's order.
+    *
+    * @param size   the number of cards in the deck
+    * @param lazy   is the order shuffled lazily
+    */
+    public CardOrder(int size, boolean lazy) {
+        this.size = size;
+        this.lazy = lazy;
+        if (lazy) {
+            this.order = null;
+            this.swaps = new Swaps();
+        }
+        else {
+            this.order = new int[size];
+            this.swaps = null;
+            Shuffler.resetOrder(order, size);
+        }
+        this.handSwaps = new Swaps();
+    }
+
+   /**
+    * Gets the number of cards in the order.
+    *
+    * @return the number of cards
+    */
+    public int size() {
+        return size;
+    }
+
+   /**
+    * Shuffles the order so that cards can be drawn from its
+    * start. A lazy order only forgets its swaps because its
+    * cards are picked when they are drawn.
+    *
+    * @param shuffler   the shuffler whose random numbers are used
+    */
+    public void shuffle(Shuffler shuffler) {
+        if (lazy) {
+            swaps.clear();
+        }
+        else {
+            shuffler.shuffle(order);
+        }
+    }
+
+   /**
+    * Gets the card drawn at the given position. The cards
+    * must be drawn in order starting from the first position
+    * after the order has been shuffled.
+    *
+    * @param shuffler   the shuffler whose random numbers are used
+    * @param position   the position of the drawn card
+    * @return the card's index
+    */
+    public int getCard(Shuffler shuffler, int position) {
+        return lazy ? shuffleStep(swaps, shuffler, position) : order[position];
+    }
+
+   /**
+    * Draws a hand of independent cards from the deck's order
+    * and leaves this order as it was, like in parallel
+    * generation, with lazy Fisher-Yates steps of their own.
+    *
+    * @param shuffler   the shuffler whose random numbers are used
+    * @param cards      the array the drawn cards are stored in
+    * @param count      how many cards are drawn
+    */
+    public void drawHand(Shuffler shuffler, int[] cards, int count) {
+        for (int i = 0; i < count; i++) {
+            cards[i] = shuffleStep(handSwaps, shuffler, i);
+        }
+        handSwaps.clear();
+    }
+
+   /**
+    * Performs one step of the Fisher-Yates shuffle: picks
+    * a random card from the positions not yet drawn and
+    * moves the card at the given position in its place.
+    * The card at the given position is never read again,
+    * so it isn't stored.
+    *
+    * @param swaps      the swapped positions
+    * @param shuffler   the shuffler whose random numbers are used
+    * @param position   the position of the drawn card
+    * @return the drawn card's index
+    */
+    private int shuffleStep(Swaps swaps, Shuffler shuffler, int position) {
+        int picked = position + shuffler.nextInt(size - position);
+        int card = swaps.get(picked);
+        if (picked != position) {
+            swaps.put(picked, swaps.get(position));
+        }
+        return card;
+    }
+
+   /**
+    * The cards at swapped positions, in an open addressing
+    * map from a position to a card with linear probing.
+    * A position which isn't in the map holds the card
+    * with the same index.
+    */
+    private static class Swaps {
+        private static final int EMPTY = -1;
+        private static final int MIN_CAPACITY = 16;
+
+        private int[] positions;
+        private int[] cards;
+        private int count;
+
+        Swaps() {
+            allocate(MIN_CAPACITY);
+        }
+
+        int get(int position) {
+            int mask = positions.length - 1;
+            for (int slot = slot(position, mask); ; slot = (slot + 1) & mask) {
+                if (positions[slot] == position) {
+                    return cards[slot];
+                }
+                if (positions[slot] == EMPTY) {
+                    return position;
+                }
+            }
+        }
+
+        void put(int position, int card) {
+            int mask = positions.length - 1;
+            int slot = slot(position, mask);
+            while (positions[slot] != EMPTY && positions[slot] != position) {
+                slot = (slot + 1) & mask;
+            }
+            if (positions[slot] == EMPTY) {
+                positions[slot] = position;
+                count++;
+            }
+            cards[slot] = card;
+
+            // Keeps at most half of the slots in use
+            if (count * 2 > positions.length) {
+                grow();
+            }
+        }
+
+       /**
+        * Removes every swap in time proportional to the number
+        * of swaps, shrinking the map if it has grown much larger
+        * than the swaps it held.
+        */
+        void clear() {
+            int capacity = capacityFor(count);
+            if (capacity < positions.length) {
+                allocate(capacity);
+            }
+            else if (count > 0) {
+                Arrays.fill(positions, EMPTY);
+            }
+            count = 0;
+        }
+
+        private void grow() {
+            int[] oldPositions = positions;
+            int[] oldCards = cards;
+            allocate(positions.length * 2);
+            count = 0;
+            for (int slot = 0; slot < oldPositions.length; slot++) {
+                if (oldPositions[slot] != EMPTY) {
+                    put(oldPositions[slot], oldCards[slot]);
+                }
+            }
+        }
+
+        private void allocate(int capacity) {
+            positions = new int[capacity];
+            cards = new int[capacity];
+            Arrays.fill(positions, EMPTY);
+        }
+
+        private static int capacityFor(int count) {
+            return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(count, 1)) * 4);
+        }
+
+        private static int slot(int position, int mask) {
+            int hash = position * 0x9E3779B9;
+            return (hash ^ hash >>> 16) & mask;
+        }
+    }
+}
@@ -0,0 +1,490 @@
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Renders drawn cards to the standard output.
+ *
+ * The printed lines are encoded into one reusable buffer
+ * and written to the output channel in large blocks instead
+ * of printing every index, category and name separately.
+ * Used by CardArchive, HandGenerator, HandServer and Engine,
+ * and by CardArchiveShowcaseV2_0, which prints its own Card
+ * objects through the String-based printCard.
+ *
+ * The deck keeps the cards' names and the categories' labels
+ * as UTF-8 bytes. When the output is UTF-8 too, a card's line
+ * is put together from those bytes as they are, so the names
+ * are never decoded into strings and encoded back. Other
+ * charsets get the text through the charset's encoder, so
+ * the Scandinavian letters are printed correctly on any
+ * terminal which can show them.
+ *
+ * A card can be printed in two languages side by side
+ * when the other deck is a translation of the first one.
+ *
+ * Like PrintStream, the printer never throws when the output
+ * fails, such as when it's piped to "head" which has exited.
+ * It stops writing and sets an error flag instead, which the
+ * loops that print many cards check with checkError to stop.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class CardPrinter {
+    private static final int BLOCK_SIZE = 64 * 1024;
+    private static final String HAND_SEPARATOR = "------";
+    private static final String INDEX_SEPARATOR = " - ";
+    private static final String TRANSLATION_SEPARATOR = " | ";
+    private static final int[] POWERS_OF_TEN = {
+        1, 10, 100, 1_000, 10_000, 100_000,
+        1_000_000, 10_000_000, 100_000_000, 1_000_000_000
+    };
+    private static final char[] PADDING = "          ".toCharArray();
+    private static final int MAX_INDEX_BYTES = PADDING.length + INDEX_SEPARATOR.length();
+
+    private final WritableByteChannel channel;
+    private final Charset charset;
+    private final CharsetEncoder encoder;
+    private final boolean utf8;
+    private final boolean flushEachLine;
+    private final StringBuilder line;
+    private final ByteBuffer bytes;
+    private boolean error;
+
+   /**
+    * Class constructor. The printer writes to the standard output.
+    *
+    * @param flushEachLine  should every line be written right away
+    *                       instead of in large blocks
+    */
+    public CardPrinter(boolean flushEachLine) {
+        this(new FileOutputStream(FileDescriptor.out).getChannel(),
+             stdoutCharset(), flushEachLine);
+    }
+
+   /**
+    * Class constructor.
+    *
+    * @param channel        the channel the output is written to
+    * @param charset        the charset of the output
+    * @param flushEachLine  should every line be written right away
+    *                       instead of in large blocks
+    */
+    public CardPrinter(WritableByteChannel channel, Charset charset,
+                       boolean flushEachLine) {
+        this.channel = channel;
+        this.charset = charset;
+        this.encoder = charset.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.utf8 = charset.equals(StandardCharsets.UTF_8);
+        this.flushEachLine = flushEachLine;
+        this.line = new StringBuilder();
+        this.bytes = ByteBuffer.allocate(BLOCK_SIZE);
+    }
+
+   /**
+    * Tells whether writing to the output has failed, after which
+    * nothing more is written. Unlike PrintStream.checkError, this
+    * doesn't flush, so it can be checked after every card.
+    *
+    * @return has writing failed
+    */
+    public boolean checkError() {
+        return error;
+    }
+
+   /**
+    * Gets the charset of the output.
+    *
+    * @return the charset
+    */
+    public Charset getCharset() {
+        return charset;
+    }
+
+   /**
+    * Prints a card from its already formatted parts. Kept for
+    * CardArchiveShowcaseV2_0, which has no Deck to print from.
+    *
+    * @param cardIndex      the formatted index of the card
+    * @param categoryLabel  the card's category's label, such as
+    *                       "[Combat] ", or null if it is not printed
+    * @param name           the card's name
+    */
+    public void printCard(String cardIndex, String categoryLabel, String name) {
+        line.setLength(0);
+        line.append(cardIndex);
+        if (categoryLabel != null) {
+            line.append(categoryLabel);
+        }
+        line.append(name).append('\n');
+        encode(line);
+        lineDone();
+    }
+
+   /**
+    * Prints a card with its index padded to the given width.
+    *
+    * @param cardIndex      the card's index in its hand or list
+    * @param indexWidth     the width of the indexes from indexWidth
+    * @param categoryLabel  the card's category's label, such as
+    *                       "[Combat] ", or null if it is not printed
+    * @param name           the card's name
+    */
+    public void printCard(int cardIndex, int indexWidth, String categoryLabel, String name) {
+        line.setLength(0);
+        appendCardIndex(line, cardIndex, indexWidth);
+        if (categoryLabel != null) {
+            line.append(categoryLabel);
+        }
+        line.append(name).append('\n');
+        encode(line);
+        lineDone();
+    }
+
+   /**
+    * Prints a card of a deck with its index padded to the given
+    * width. In UTF-8, the category's label and the card's name
+    * are copied to the output as bytes.
+    *
+    * @param cardIndex      the card's index in its hand or list
+    * @param indexWidth     the width of the indexes from indexWidth
+    * @param deck           the deck
+    * @param card           the card's index in the deck
+    * @param printCategory  is the card's category printed
+    */
+    public void printCard(int cardIndex, int indexWidth, Deck deck,
+                          int card, boolean printCategory) {
+        printCard(cardIndex, indexWidth, deck, null, card, printCategory);
+    }
+
+   /**
+    * Prints a card of a deck and, if a translation of the
+    * deck is given, the same card in the translation after
+    * it on the same line. In UTF-8, the categories' labels
+    * and the card's names are copied to the output as bytes.
+    *
+    * @param cardIndex      the card's index in its hand or list
+    * @param indexWidth     the width of the indexes from indexWidth
+    * @param deck           the deck
+    * @param translation    the deck in another language or null
+    * @param card           the card's index in the deck
+    * @param printCategory  is the card's category printed
+    */
+    public void printCard(int cardIndex, int indexWidth, Deck deck,
+                          Deck translation, int card, boolean printCategory) {
+        int lineLength = MAX_INDEX_BYTES + cardLength(deck, card, printCategory) + 1;
+        if (translation != null) {
+            lineLength += TRANSLATION_SEPARATOR.length() +
+                cardLength(translation, card, printCategory);
+        }
+
+        // Very long lines and other charsets are encoded as text
+        if (!utf8 || lineLength > bytes.capacity()) {
+            line.setLength(0);
+            appendCardIndex(line, cardIndex, indexWidth);
+            appendCard(line, deck, card, printCategory);
+            if (translation != null) {
+                line.append(TRANSLATION_SEPARATOR);
+                appendCard(line, translation, card, printCategory);
+            }
+            line.append('\n');
+            encode(line);
+            lineDone();
+            return;
+        }
+
+        if (bytes.remaining() < lineLength) {
+            writeBytes();
+        }
+        putCardIndex(cardIndex, indexWidth);
+        putCard(deck, card, printCategory);
+        if (translation != null) {
+            putAscii(TRANSLATION_SEPARATOR);
+            putCard(translation, card, printCategory);
+        }
+        bytes.put((byte) '\n');
+        lineDone();
+    }
+
+   /**
+    * Prints a line of text.
+    *
+    * @param text   a line of text
+    */
+    public void printLine(String text) {
+        line.setLength(0);
+        line.append(text).append('\n');
+        encode(line);
+        lineDone();
+    }
+
+   /**
+    * Ends the current hand by printing the hand separator.
+    */
+    public void endHand() {
+        line.setLength(0);
+        appendHandEnd(line);
+        encode(line);
+        lineDone();
+    }
+
+   /**
+    * Prints hands which have already been encoded
+    * in this printer's charset by another printer.
+    *
+    * @param block  the encoded hands
+    */
+    public void printBlock(byte[] block) {
+        int offset = 0;
+        while (offset < block.length) {
+            if (!bytes.hasRemaining()) {
+                writeBytes();
+            }
+            int length = Math.min(bytes.remaining(), block.length - offset);
+            bytes.put(block, offset, length);
+            offset += length;
+        }
+
+        if (flushEachLine) {
+            flush();
+        }
+    }
+
+   /**
+    * Composes the separator which ends a hand.
+    *
+    * @param text   the text the separator is added to
+    */
+    public static void appendHandEnd(StringBuilder text) {
+        text.append(HAND_SEPARATOR).append('\n');
+    }
+
+   /**
+    * Writes all buffered output.
+    */
+    public void flush() {
+        if (bytes.position() > 0) {
+            writeBytes();
+        }
+    }
+
+   /**
+    * Writes the line if each line is flushed separately.
+    * Otherwise the line stays in the buffer until it is full.
+    */
+    private void lineDone() {
+        if (flushEachLine) {
+            flush();
+        }
+    }
+
+   /**
+    * Encodes text into the buffer, writing
+    * the buffer whenever it becomes full.
+    *
+    * @param text   the text
+    */
+    private void encode(CharSequence text) {
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        CoderResult result;
+        do {
+            result = encoder.encode(chars, bytes, true);
+            if (result.isOverflow()) {
+                writeBytes();
+            }
+        } while (result.isOverflow());
+
+        do {
+            result = encoder.flush(bytes);
+            if (result.isOverflow()) {
+                writeBytes();
+            }
+        } while (result.isOverflow());
+    }
+
+   /**
+    * Returns how many bytes a card's category label
+    * and name take in UTF-8.
+    *
+    * @param deck           the deck
+    * @param card           the card's index in the deck
+    * @param printCategory  is the card's category printed
+    * @return the number of bytes
+    */
+    private static int cardLength(Deck deck, int card, boolean printCategory) {
+        int length = deck.getNameLength(card);
+        if (printCategory) {
+            length += deck.getCategoryData(deck.getCategory(card)).getLabelBytes().length;
+        }
+
+        return length;
+    }
+
+   /**
+    * Composes a card's category label and name as text.
+    *
+    * @param text           the text the card is added to
+    * @param deck           the deck
+    * @param card           the card's index in the deck
+    * @param printCategory  is the card's category printed
+    */
+    private static void appendCard(StringBuilder text, Deck deck,
+                                   int card, boolean printCategory) {
+        if (printCategory) {
+            text.append(deck.getCategoryData(deck.getCategory(card)).getLabel());
+        }
+        text.append(deck.getName(card));
+    }
+
+   /**
+    * Puts a card's category label and name into the buffer
+    * as the UTF-8 bytes the deck has them in.
+    *
+    * @param deck           the deck
+    * @param card           the card's index in the deck
+    * @param printCategory  is the card's category printed
+    */
+    private void putCard(Deck deck, int card, boolean printCategory) {
+        if (printCategory) {
+            bytes.put(deck.getCategoryData(deck.getCategory(card)).getLabelBytes());
+        }
+        int nameLength = deck.getNameLength(card);
+        deck.copyName(card, bytes.array(), bytes.arrayOffset() + bytes.position());
+        bytes.position(bytes.position() + nameLength);
+    }
+
+   /**
+    * Puts ASCII text into the buffer.
+    *
+    * @param text   the text
+    */
+    private void putAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            bytes.put((byte) text.charAt(i));
+        }
+    }
+
+   /**
+    * Puts a card's padded index into the buffer as ASCII
+    * bytes, which are the same in UTF-8.
+    *
+    * @param cardIndex  the card's index in its hand or list
+    * @param width      the width of the indexes from indexWidth
+    */
+    private void putCardIndex(int cardIndex, int width) {
+        // Presented list numbering starts from 1
+        int number = cardIndex + 1;
+
+        int digits = digits(number);
+        for (int i = digits; i < width; i++) {
+            bytes.put((byte) ' ');
+        }
+
+        int end = bytes.position() + digits;
+        for (int i = end - 1; i >= bytes.position(); i--) {
+            bytes.put(i, (byte) ('0' + number % 10));
+            number /= 10;
+        }
+        bytes.position(end);
+        putAscii(INDEX_SEPARATOR);
+    }
+
+   /**
+    * Writes the encoded bytes to the channel. If the channel
+    * is closed or its reader is gone, the error flag is set
+    * and the bytes are discarded from then on.
+    */
+    private void writeBytes() {
+        bytes.flip();
+        try {
+            while (bytes.hasRemaining() && !error) {
+                channel.write(bytes);
+            }
+        }
+        catch (IOException e) {
+            error = true;
+        }
+        bytes.clear();
+    }
+
+   /**
+    * Returns the charset System.out uses so that the printed
+    * cards are encoded the same way as the other messages.
+    *
+    * @return the charset of the standard output
+    */
+    private static Charset stdoutCharset() {
+        String name = System.getProperty("sun.stdout.encoding");
+        if (name != null && Charset.isSupported(name)) {
+            return Charset.forName(name);
+        }
+
+        return Charset.defaultCharset();
+    }
+
+   /**
+    * Returns how wide the printed indexes of a list of cards
+    * are, which is the number of digits in the last index.
+    * Computed once per hand or listing so that the indexes
+    * can be padded without counting the last index's digits
+    * for every card.
+    *
+    * @param cardCount  the number of cards in the list
+    * @return the width of the indexes
+    */
+    public static int indexWidth(int cardCount) {
+        return digits(cardCount);
+    }
+
+   /**
+    * Composes the index that is printed before a card's name.
+    * Adds spaces before the index number so that it is as
+    * wide as the list's last index. The padding is copied
+    * from a table of spaces and the number is written straight
+    * into the text, so no strings are created.
+    *
+    * @param text       the text the index is added to
+    * @param cardIndex  the current card's index
+    * @param width      the width of the indexes from indexWidth
+    */
+    public static void appendCardIndex(StringBuilder text, int cardIndex, int width) {
+        // Presented list numbering starts from 1
+        int number = cardIndex + 1;
+
+        int padding = width - digits(number);
+        if (padding > 0) {
+            text.append(PADDING, 0, padding);
+        }
+        text.append(number).append(INDEX_SEPARATOR);
+    }
+
+   /**
+    * Counts the digits of a non-negative number
+    * by comparing it to the powers of ten.
+    *
+    * @param number a non-negative number
+    * @return the number of digits
+    */
+    private static int digits(int number) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && number >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+
+        return digits;
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Card Archive: Game Elements
+ *
+ * The cards' weights and a way to pick a card in proportion
+ * to them. AliasTable picks cards in constant time but can't
+ * change; DynamicWeights can change while cards are drawn.
+ * WeightedSampler draws cards without replacement with either.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public interface CardWeights {
+
+   /**
+    * Gets the number of cards.
+    *
+    * @return the number of cards
+    */
+    int size();
+
+   /**
+    * Gets a card's weight.
+    *
+    * @param card   a card's index
+    * @return the card's weight
+    */
+    double getWeight(int card);
+
+   /**
+    * Gets the sum of the cards' weights.
+    *
+    * @return the total weight
+    */
+    double getTotalWeight();
+
+   /**
+    * Gets a number which changes whenever a weight changes,
+    * so that a copy of the weights can be checked.
+    *
+    * @return the weights' version
+    */
+    long getVersion();
+
+   /**
+    * Picks a card randomly in proportion to the cards' weights.
+    * A card with the weight 0 is never picked.
+    *
+    * @param shuffler   the shuffler whose random numbers are used
+    * @return the card's index or Deck.NO_CARD if no card has weight
+    */
+    int sample(Shuffler shuffler);
+}
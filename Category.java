@@ -0,0 +1,59 @@
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * A category of cards as it is loaded from a card file.
+ *
+ * Besides the name, a category has its printed label
+ * "[Name] " ready both as text and as UTF-8 bytes, so
+ * printing a card's category only reads them.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class Category {
+    private final String name;
+    private final String label;
+    private final byte[] labelBytes;
+
+   /**
+    * Class constructor.
+    *
+    * @param name   the category's name
+    */
+    public Category(String name) {
+        this.name = name;
+        this.label = "[" + name + "] ";
+        this.labelBytes = label.getBytes(StandardCharsets.UTF_8);
+    }
+
+   /**
+    * Gets the category's name.
+    *
+    * @return the category's name
+    */
+    public String getName() {
+        return name;
+    }
+
+   /**
+    * Gets the category's label, which is
+    * printed before the names of its cards.
+    *
+    * @return the label
+    */
+    public String getLabel() {
+        return label;
+    }
+
+   /**
+    * Gets the category's UTF-8 encoded label.
+    * The array must not be modified.
+    *
+    * @return the label's bytes
+    */
+    public byte[] getLabelBytes() {
+        return labelBytes;
+    }
+}
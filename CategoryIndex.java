@@ -0,0 +1,230 @@
+import java.util.Arrays;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Finds categories by their names.
+ *
+ * A category can be given by its full name or by the first
+ * three letters of its name, case-insensitively. Both are
+ * looked up from open addressing hash tables which are built
+ * once when the deck is created, and the given name is hashed
+ * and compared one character at a time, so a lookup doesn't
+ * create any strings. Categories whose names start with the
+ * same three letters are chained together so that an
+ * ambiguous prefix can be reported. Categories with
+ * shorter names can only be found by their full names.
+ * Misspelled names can be looked up by their trigrams.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class CategoryIndex {
+    public static final int NOT_FOUND = -1;
+    public static final int PREFIX_LENGTH = 3;
+
+    private final String[] names;
+    private final int[] nameTable;
+    private final int[] prefixTable;
+    private final int[] nextWithSamePrefix;
+    private final int mask;
+    private final TrigramIndex similarNames;
+
+   /**
+    * Class constructor.
+    *
+    * @param names  the categories' names
+    */
+    public CategoryIndex(String[] names) {
+        this.names = names;
+        this.similarNames = new TrigramIndex(names);
+
+        // The tables are at most half full
+        int size = Integer.highestOneBit(Math.max(1, names.length) * 2) * 2;
+        mask = size - 1;
+        nameTable = new int[size];
+        prefixTable = new int[size];
+        nextWithSamePrefix = new int[names.length];
+        Arrays.fill(nameTable, NOT_FOUND);
+        Arrays.fill(prefixTable, NOT_FOUND);
+        Arrays.fill(nextWithSamePrefix, NOT_FOUND);
+
+        // Adds the categories in reverse order so that the
+        // first category with a prefix is at the chain's head
+        for (int i = names.length - 1; i >= 0; i--) {
+            String name = names[i];
+            nameTable[findNameSlot(name, name.length())] = i;
+
+            if (name.length() >= PREFIX_LENGTH) {
+                int slot = findPrefixSlot(name);
+                nextWithSamePrefix[i] = prefixTable[slot];
+                prefixTable[slot] = i;
+            }
+        }
+    }
+
+   /**
+    * Finds a category by its full name or, if there is no
+    * such category, by the first three letters of the name.
+    * If several categories start with the same letters,
+    * the first of them is returned.
+    *
+    * @param name   a category's name or its beginning
+    * @return the category's index or NOT_FOUND
+    */
+    public int find(CharSequence name) {
+        int category = findByName(name);
+        if (category == NOT_FOUND) {
+            category = findByPrefix(name);
+        }
+
+        return category;
+    }
+
+   /**
+    * Finds a category by its full name.
+    *
+    * @param name   a category's name
+    * @return the category's index or NOT_FOUND
+    */
+    public int findByName(CharSequence name) {
+        if (name == null) {
+            return NOT_FOUND;
+        }
+
+        return nameTable[findNameSlot(name, name.length())];
+    }
+
+   /**
+    * Finds the first category whose name starts with the
+    * same three letters as the given name. Only the first
+    * three letters of the given name are compared.
+    *
+    * @param name   a category's name or its beginning
+    * @return the category's index or NOT_FOUND
+    */
+    public int findByPrefix(CharSequence name) {
+        if (name == null || name.length() < PREFIX_LENGTH) {
+            return NOT_FOUND;
+        }
+
+        return prefixTable[findPrefixSlot(name)];
+    }
+
+   /**
+    * Finds the category whose name is spelled
+    * the most similarly to the given name.
+    *
+    * @param name   a possibly misspelled name
+    * @return the category's index or NOT_FOUND
+    *         if no name is similar enough
+    */
+    public int findSimilar(String name) {
+        if (name == null) {
+            return NOT_FOUND;
+        }
+
+        return similarNames.findBest(name);
+    }
+
+   /**
+    * Returns the next category which starts with
+    * the same three letters as the given one.
+    *
+    * @param category   a category's index
+    * @return the next category's index or NOT_FOUND
+    */
+    public int nextWithSamePrefix(int category) {
+        return nextWithSamePrefix[category];
+    }
+
+   /**
+    * Checks whether the name's first three letters
+    * are the beginning of several categories' names.
+    *
+    * @param name   a category's name or its beginning
+    * @return is the prefix ambiguous
+    */
+    public boolean isAmbiguousPrefix(CharSequence name) {
+        int category = findByPrefix(name);
+        return category != NOT_FOUND && nextWithSamePrefix[category] != NOT_FOUND;
+    }
+
+   /**
+    * Finds the slot of the given full name in the name table.
+    *
+    * @param name   a name
+    * @param length the name's length
+    * @return the slot with the name or an empty slot
+    */
+    private int findNameSlot(CharSequence name, int length) {
+        int slot = hash(name, length) & mask;
+        while (nameTable[slot] != NOT_FOUND &&
+               !equalsIgnoreCase(names[nameTable[slot]], name, length, true)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+   /**
+    * Finds the slot of the name's first three
+    * letters in the prefix table.
+    *
+    * @param name   a name
+    * @return the slot with the prefix or an empty slot
+    */
+    private int findPrefixSlot(CharSequence name) {
+        int slot = hash(name, PREFIX_LENGTH) & mask;
+        while (prefixTable[slot] != NOT_FOUND &&
+               !equalsIgnoreCase(names[prefixTable[slot]], name, PREFIX_LENGTH, false)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+   /**
+    * Compares the beginning of a category's name to a name
+    * one character at a time, ignoring the case.
+    *
+    * @param categoryName   a category's name
+    * @param name           the compared name
+    * @param length         how many characters are compared
+    * @param wholeName      must the category's name have exactly
+    *                       the given length instead of at least
+    * @return are the names equal
+    */
+    private static boolean equalsIgnoreCase(String categoryName, CharSequence name,
+                                            int length, boolean wholeName) {
+        if (wholeName ? categoryName.length() != length
+                      : categoryName.length() < length) {
+            return false;
+        }
+
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase(categoryName.charAt(i)) !=
+                Character.toLowerCase(name.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+   /**
+    * Hashes the beginning of a name ignoring the case.
+    *
+    * @param name   a name
+    * @param length how many characters are hashed
+    * @return the hash
+    */
+    private static int hash(CharSequence name, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + Character.toLowerCase(name.charAt(i));
+        }
+
+        return hash ^ (hash >>> 16);
+    }
+}
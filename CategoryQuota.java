@@ -0,0 +1,168 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * How many cards a hand has from each category, such as
+ * "combat:2,items:1,world:1" for two Combat cards, one Items
+ * card and one World card. The cards are listed in this order.
+ *
+ * The cards of a category are next to each other in the deck,
+ * so a category's cards are drawn with lazy Fisher-Yates steps
+ * inside the category's range of the card order: each card is
+ * picked at a random offset among the category's cards not yet
+ * drawn. This takes O(1) per card without shuffling the whole
+ * deck or picking cards from other categories and rejecting
+ * them. The steps are undone after the hand, so the order can
+ * be used for the next hand like in Shuffler.drawCards.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class CategoryQuota {
+    private static final String QUOTA_SEPARATOR = ",";
+    private static final String COUNT_SEPARATOR = ":";
+
+    private final Deck deck;
+    private final int[] categories;
+    private final int[] counts;
+    private final int cardCount;
+
+   /**
+    * Class constructor.
+    *
+    * @param deck           the deck
+    * @param categories     the categories in the order they are listed
+    * @param counts         how many cards are drawn from each category
+    */
+    private CategoryQuota(Deck deck, int[] categories, int[] counts) {
+        this.deck = deck;
+        this.categories = categories;
+        this.counts = counts;
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        this.cardCount = total;
+    }
+
+   /**
+    * Creates a quota of one card from each category which has cards.
+    *
+    * @param deck   the deck
+    * @return the quota
+    */
+    public static CategoryQuota oneOfEach(Deck deck) {
+        List<Integer> categories = new ArrayList<Integer>();
+        for (int i = 0; i < deck.getCategoryCount(); i++) {
+            if (deck.getCategorySize(i) > 0) {
+                categories.add(i);
+            }
+        }
+
+        int[] categoryArray = new int[categories.size()];
+        int[] counts = new int[categories.size()];
+        for (int i = 0; i < categoryArray.length; i++) {
+            categoryArray[i] = categories.get(i);
+            counts[i] = 1;
+        }
+
+        return new CategoryQuota(deck, categoryArray, counts);
+    }
+
+   /**
+    * Parses a quota such as "combat:2,items:1,world:1". The
+    * categories are found by their names like in command line,
+    * so their first three letters are enough. A category without
+    * a count gets one card, and a category given twice gets
+    * the sum of its counts.
+    *
+    * @param deck   the deck
+    * @param text   the quota
+    * @return the quota
+    * @throws IllegalArgumentException if a part of the quota is invalid;
+    *         the exception's message is the part
+    */
+    public static CategoryQuota parse(Deck deck, String text) {
+        List<Integer> categories = new ArrayList<Integer>();
+        int[] countsByCategory = new int[deck.getCategoryCount()];
+        for (String part : text.split(QUOTA_SEPARATOR)) {
+            String[] nameAndCount = part.trim().split(COUNT_SEPARATOR, 2);
+            int category = deck.getCategoryIndex().find(nameAndCount[0].trim());
+            int count;
+            try {
+                count = nameAndCount.length > 1 ? Integer.parseInt(nameAndCount[1].trim()) : 1;
+            }
+            catch (NumberFormatException e) {
+                count = -1;
+            }
+
+            if (category == CategoryIndex.NOT_FOUND || count < 1 ||
+                countsByCategory[category] + count > deck.getCategorySize(category)) {
+                throw new IllegalArgumentException(part.trim());
+            }
+
+            if (countsByCategory[category] == 0) {
+                categories.add(category);
+            }
+            countsByCategory[category] += count;
+        }
+
+        int[] categoryArray = new int[categories.size()];
+        int[] counts = new int[categories.size()];
+        for (int i = 0; i < categoryArray.length; i++) {
+            categoryArray[i] = categories.get(i);
+            counts[i] = countsByCategory[categoryArray[i]];
+        }
+
+        return new CategoryQuota(deck, categoryArray, counts);
+    }
+
+   /**
+    * Gets the number of cards in a hand.
+    *
+    * @return the number of cards
+    */
+    public int getCardCount() {
+        return cardCount;
+    }
+
+   /**
+    * Draws a hand by the quota and then undoes the steps, so
+    * the order is left as it was. The order must have each
+    * category's cards in the category's range of the deck,
+    * such as the unshuffled order.
+    *
+    * @param shuffler   the shuffler whose random numbers are used
+    * @param order      card indexes
+    * @param cards      the array the drawn cards are stored in
+    */
+    public void drawCards(Shuffler shuffler, int[] order, int[] cards) {
+
+        // Draws the cards and records which positions were swapped
+        int card = 0;
+        for (int i = 0; i < categories.length; i++) {
+            int first = deck.getCategoryFirstCardIndex(categories[i]);
+            int end = first + deck.getCategorySize(categories[i]);
+            for (int position = first; position < first + counts[i]; position++) {
+                int j = position + shuffler.nextInt(end - position);
+                int temp = order[j];
+                order[j] = order[position];
+                order[position] = temp;
+                cards[card++] = j;
+            }
+        }
+
+        // Undoes the swaps in reverse order
+        for (int i = categories.length - 1; i >= 0; i--) {
+            int first = deck.getCategoryFirstCardIndex(categories[i]);
+            for (int position = first + counts[i] - 1; position >= first; position--) {
+                int j = cards[--card];
+                cards[card] = order[position];
+                order[position] = order[j];
+                order[j] = cards[card];
+            }
+        }
+    }
+}
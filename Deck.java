@@ -0,0 +1,306 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * The cards of a deck, stored in columns instead of objects.
+ *
+ * A card is identified by its index in the deck. The cards'
+ * categories are in an int array and their names are UTF-8
+ * bytes in one shared name table, so even a deck with a
+ * million cards takes only a few megabytes besides the names.
+ * The cards of a category are next to each other, so
+ * a category is described by its first card and its size.
+ * The categories' names and printed labels are loaded
+ * with the cards, so a deck can have any categories.
+ * Categories can be found by their names with the deck's
+ * category index.
+ *
+ * A card can have a weight which tells how likely it is to be
+ * drawn in weighted mode. The weights are a float array, which
+ * is left out when all cards have the default weight 1. The
+ * alias table for drawing cards by their weights is built
+ * when it is first needed and then shared.
+ *
+ * Decks are created by DeckLoader and never change; shuffles
+ * only change a CardOrder on top of a deck. The decks
+ * of different languages have the same cards in the same order,
+ * so a card's index is its ID in every language. NO_CARD
+ * stands for a missing card where an index is expected.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class Deck {
+    public static final int NO_CARD = -1;
+    public static final float DEFAULT_WEIGHT = 1;
+
+    private final int[] cardCategories;
+    private final float[] cardWeights;
+    private final ByteBuffer names;
+    private final int[] nameOffsets;
+    private final int[] categorySizes;
+    private final int[] categoryFirstCardIndexes;
+    private final Category[] categories;
+    private final CategoryIndex categoryIndex;
+    private volatile AliasTable aliasTable;
+
+   /**
+    * Class constructor.
+    *
+    * @param cardCategories             each card's category
+    * @param names                      the cards' UTF-8 encoded names
+    * @param nameOffsets                where each card's name starts
+    *                                   in names, plus the end of the last one
+    * @param categorySizes              the number of cards in each category
+    * @param categoryFirstCardIndexes   the index of each category's first
+    *                                   card or -1 if the category is empty
+    * @param categoryNames              the categories' names
+    */
+    Deck(int[] cardCategories, ByteBuffer names, int[] nameOffsets,
+         int[] categorySizes, int[] categoryFirstCardIndexes,
+         String[] categoryNames) {
+        this(cardCategories, null, names, nameOffsets, categorySizes,
+             categoryFirstCardIndexes, categoryNames);
+    }
+
+   /**
+    * Class constructor.
+    *
+    * @param cardCategories             each card's category
+    * @param cardWeights                each card's weight or null if
+    *                                   all cards have the default weight
+    * @param names                      the cards' UTF-8 encoded names
+    * @param nameOffsets                where each card's name starts
+    *                                   in names, plus the end of the last one
+    * @param categorySizes              the number of cards in each category
+    * @param categoryFirstCardIndexes   the index of each category's first
+    *                                   card or -1 if the category is empty
+    * @param categoryNames              the categories' names
+    */
+    Deck(int[] cardCategories, float[] cardWeights, ByteBuffer names,
+         int[] nameOffsets, int[] categorySizes,
+         int[] categoryFirstCardIndexes, String[] categoryNames) {
+        this.cardCategories = cardCategories;
+        this.cardWeights = cardWeights;
+        this.names = names;
+        this.nameOffsets = nameOffsets;
+        this.categorySizes = categorySizes;
+        this.categoryFirstCardIndexes = categoryFirstCardIndexes;
+        this.categories = new Category[categoryNames.length];
+        for (int i = 0; i < categoryNames.length; i++) {
+            categories[i] = new Category(categoryNames[i]);
+        }
+        this.categoryIndex = new CategoryIndex(categoryNames);
+    }
+
+   /**
+    * Creates a deck without cards.
+    *
+    * @return an empty deck
+    */
+    public static Deck empty() {
+        return new Deck(new int[0], ByteBuffer.allocate(0), new int[1],
+                        new int[0], new int[0], new String[0]);
+    }
+
+   /**
+    * Gets the number of cards.
+    *
+    * @return the number of cards
+    */
+    public int size() {
+        return cardCategories.length;
+    }
+
+   /**
+    * Gets a card's category.
+    *
+    * @param card   a card's index
+    * @return the card's category
+    */
+    public int getCategory(int card) {
+        return cardCategories[card];
+    }
+
+   /**
+    * Gets a card's weight.
+    *
+    * @param card   a card's index
+    * @return the card's weight
+    */
+    public double getWeight(int card) {
+        return cardWeights != null ? cardWeights[card] : DEFAULT_WEIGHT;
+    }
+
+   /**
+    * Checks whether any card has a weight other than the default.
+    *
+    * @return do the cards have weights
+    */
+    public boolean hasWeights() {
+        return cardWeights != null;
+    }
+
+   /**
+    * Gets the sum of the cards' weights.
+    *
+    * @return the total weight
+    */
+    public double getTotalWeight() {
+        if (cardWeights == null) {
+            return size() * (double) DEFAULT_WEIGHT;
+        }
+
+        double total = 0;
+        for (float weight : cardWeights) {
+            total += weight;
+        }
+
+        return total;
+    }
+
+   /**
+    * Gets the alias table which picks cards by
+    * their weights. The table is built when it is
+    * first needed and then shared by all threads.
+    * Only building the table is synchronized.
+    *
+    * @return the alias table
+    */
+    public AliasTable getAliasTable() {
+        AliasTable table = aliasTable;
+        if (table == null) {
+            synchronized (this) {
+                table = aliasTable;
+                if (table == null) {
+                    table = new AliasTable(this);
+                    aliasTable = table;
+                }
+            }
+        }
+
+        return table;
+    }
+
+   /**
+    * Gets a card's name.
+    *
+    * @param card   a card's index
+    * @return the card's name
+    */
+    public String getName(int card) {
+        byte[] bytes = new byte[getNameLength(card)];
+        copyName(card, bytes, 0);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+   /**
+    * Gets the length of a card's UTF-8 encoded name.
+    *
+    * @param card   a card's index
+    * @return the number of bytes in the name
+    */
+    public int getNameLength(int card) {
+        return nameOffsets[card + 1] - nameOffsets[card];
+    }
+
+   /**
+    * Copies a card's UTF-8 encoded name to the given array.
+    *
+    * @param card   a card's index
+    * @param dst    the array the name is copied to
+    * @param offset where the name starts in the array
+    */
+    public void copyName(int card, byte[] dst, int offset) {
+        names.get(nameOffsets[card], dst, offset, getNameLength(card));
+    }
+
+   /**
+    * Gets the number of categories.
+    *
+    * @return the number of categories
+    */
+    public int getCategoryCount() {
+        return categorySizes.length;
+    }
+
+   /**
+    * Gets a category's size.
+    *
+    * @param category   a category's index
+    * @return the number of cards in the category
+    */
+    public int getCategorySize(int category) {
+        return categorySizes[category];
+    }
+
+   /**
+    * Gets the index of a category's first card.
+    *
+    * @param category   a category's index
+    * @return the index of the first card or -1 if the category is empty
+    */
+    public int getCategoryFirstCardIndex(int category) {
+        return categoryFirstCardIndexes[category];
+    }
+
+   /**
+    * Gets a category's name as it is written in the card file.
+    *
+    * @param category   a category's index
+    * @return the category's name
+    */
+    public String getCategoryName(int category) {
+        return categories[category].getName();
+    }
+
+   /**
+    * Gets a category's data.
+    *
+    * @param category   a category's index
+    * @return the category
+    */
+    public Category getCategoryData(int category) {
+        return categories[category];
+    }
+
+   /**
+    * Gets the index which finds categories by their names.
+    *
+    * @return the category index
+    */
+    public CategoryIndex getCategoryIndex() {
+        return categoryIndex;
+    }
+
+   /**
+    * Creates a deck with this deck's cards and categories and
+    * the names of another deck with the same cards, such as
+    * the same deck in another language. The decks share
+    * their categories, card indexes and weights, so a card
+    * has the same index and weight in both.
+    *
+    * @param translation    a deck with the same cards
+    * @return a deck with the translation's names
+    * @throws IllegalArgumentException if the translation's
+    *         cards or categories are not the same
+    */
+    public Deck withNamesOf(Deck translation) {
+        if (!Arrays.equals(cardCategories, translation.cardCategories) ||
+            !Arrays.equals(categorySizes, translation.categorySizes)) {
+            throw new IllegalArgumentException("The decks have different cards.");
+        }
+
+        String[] categoryNames = new String[translation.categories.length];
+        for (int i = 0; i < categoryNames.length; i++) {
+            categoryNames[i] = translation.getCategoryName(i);
+        }
+
+        return new Deck(cardCategories, cardWeights, translation.names,
+                        translation.nameOffsets, categorySizes,
+                        categoryFirstCardIndexes, categoryNames);
+    }
+}
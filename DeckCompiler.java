@@ -0,0 +1,125 @@
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Compiles a text card file into a binary card file
+ * which the program can memory-map instead of parsing.
+ * See BinaryDeck for the binary format.
+ *
+ * Usage: java DeckCompiler decks/en.txt [decks/en.cdeck]
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class DeckCompiler {
+
+   /**
+    * Runs the compiler.
+    */
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: java DeckCompiler textCardFile [binaryCardFile]");
+            return;
+        }
+
+        String input = args[0];
+        String output = args.length > 1 ? args[1] : binaryFileName(input);
+
+        try {
+            Deck deck = new DeckLoader().load(input);
+            compile(deck, output);
+            System.out.format("Compiled %d cards in %d categories into %s\n",
+                deck.size(), deck.getCategoryCount(), output);
+        }
+        catch (IOException e) {
+            System.out.println("The deck could not be compiled: " + e.getMessage());
+        }
+    }
+
+   /**
+    * Writes a deck into a binary card file.
+    *
+    * @param deck   the deck
+    * @param output the binary card file's path
+    * @throws IOException if the file can't be written
+    */
+    public static void compile(Deck deck, String output) throws IOException {
+        int cardCount = deck.size();
+        int categoryCount = deck.getCategoryCount();
+
+        // Encodes the category names and then copies the card
+        // names into the string pool and records where each one starts
+        ByteArrayOutputStream pool = new ByteArrayOutputStream();
+        int[] offsets = new int[categoryCount + cardCount + 1];
+        for (int i = 0; i < categoryCount; i++) {
+            offsets[i] = pool.size();
+            pool.writeBytes(deck.getCategoryName(i).getBytes(StandardCharsets.UTF_8));
+        }
+        byte[] name = new byte[64];
+        for (int i = 0; i < cardCount; i++) {
+            offsets[categoryCount + i] = pool.size();
+            int length = deck.getNameLength(i);
+            if (length > name.length) {
+                name = new byte[Math.max(length, name.length * 2)];
+            }
+            deck.copyName(i, name, 0);
+            pool.write(name, 0, length);
+        }
+        offsets[offsets.length - 1] = pool.size();
+
+        try (DataOutputStream out = new DataOutputStream(
+                 new BufferedOutputStream(new FileOutputStream(output)))) {
+
+            // Header
+            out.writeInt(BinaryDeck.MAGIC);
+            out.writeInt(BinaryDeck.VERSION);
+            out.writeInt(cardCount);
+            out.writeInt(categoryCount);
+
+            // Category table
+            for (int i = 0; i < categoryCount; i++) {
+                out.writeInt(deck.getCategoryFirstCardIndex(i));
+                out.writeInt(deck.getCategorySize(i));
+            }
+
+            // Card categories
+            for (int i = 0; i < cardCount; i++) {
+                out.writeInt(deck.getCategory(i));
+            }
+
+            // Card weights
+            for (int i = 0; i < cardCount; i++) {
+                out.writeFloat((float) deck.getWeight(i));
+            }
+
+            // Offset index
+            for (int offset : offsets) {
+                out.writeInt(offset);
+            }
+
+            // String pool
+            pool.writeTo(out);
+        }
+    }
+
+   /**
+    * Returns the binary card file's name for a text card file.
+    *
+    * @param input  the text card file's path
+    * @return the binary card file's path
+    */
+    private static String binaryFileName(String input) {
+        int extension = input.lastIndexOf('.');
+        if (extension > input.lastIndexOf('/') && extension > input.lastIndexOf('\\')) {
+            input = input.substring(0, extension);
+        }
+
+        return input + BinaryDeck.FILE_EXTENSION;
+    }
+}
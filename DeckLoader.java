@@ -0,0 +1,404 @@
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Loads a deck from a card file.
+ *
+ * A card file is UTF-8 text. "@cards N" tells how many cards
+ * there are so that the deck can be created in the right size.
+ * "[N] Name" starts category number N and the following lines
+ * are the names of the cards in it. Empty lines and lines
+ * starting with "#" are skipped. The cards of a category must
+ * be listed together, which is why the categories' sizes and
+ * first cards' indexes can be recorded while reading the file.
+ * A card's line can end with "@weight", such as "Boss fights @2.5",
+ * to make the card more or less likely to be drawn in weighted
+ * mode. Cards without a weight have the weight 1.
+ *
+ * The file is read as bytes and the card names are moved
+ * to the start of the same array, which becomes the deck's
+ * name table, so the names are never decoded while loading.
+ *
+ * Files ending in ".cdeck" are binary card files made
+ * with DeckCompiler. They are memory-mapped instead of read.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class DeckLoader {
+    private static final byte COMMENT_PREFIX = '#';
+    private static final byte CATEGORY_PREFIX = '[';
+    private static final byte WEIGHT_PREFIX = '@';
+    private static final byte[] CARD_COUNT_PREFIX =
+        "@cards ".getBytes(StandardCharsets.US_ASCII);
+    private static final int DEFAULT_CARD_COUNT = 512;
+    private static final int DEFAULT_CATEGORY_COUNT = 16;
+
+    private byte[] text;
+    private int cardCount;
+    private int[] cardCategories;
+    private float[] cardWeights;
+    private int[] nameOffsets;
+    private int categoryCount;
+    private int[] categorySizes;
+    private int[] categoryFirstCardIndexes;
+    private String[] categoryNames;
+
+   /**
+    * Loads a deck. The path is first looked for in the file
+    * system and then among the program's resources.
+    * Binary card files must be in the file system.
+    *
+    * @param path   the card file's path
+    * @return the deck
+    * @throws IOException if the file can't be read or is invalid
+    */
+    public Deck load(String path) throws IOException {
+        File file = new File(path);
+        if (path.endsWith(BinaryDeck.FILE_EXTENSION)) {
+            return new BinaryDeck(file).toDeck();
+        }
+
+        InputStream in;
+        if (file.isFile()) {
+            in = new FileInputStream(file);
+        }
+        else {
+            in = DeckLoader.class.getClassLoader().getResourceAsStream(path);
+            if (in == null) {
+                throw new IOException("Card file not found: " + path);
+            }
+        }
+
+        try (InputStream input = in) {
+            return load(input.readAllBytes());
+        }
+    }
+
+   /**
+    * Loads a deck from the contents of a card file.
+    * The array is reused as the deck's name table.
+    *
+    * @param text   the card file's contents
+    * @return the deck
+    * @throws IOException if the file is invalid
+    */
+    public Deck load(byte[] text) throws IOException {
+        this.text = text;
+        cardCount = 0;
+        cardCategories = null;
+        cardWeights = null;
+        nameOffsets = null;
+        categoryCount = 0;
+        categorySizes = new int[DEFAULT_CATEGORY_COUNT];
+        categoryFirstCardIndexes = new int[DEFAULT_CATEGORY_COUNT];
+        categoryNames = new String[DEFAULT_CATEGORY_COUNT];
+
+        int category = -1;
+        int nameEnd = 0;
+        int lineNumber = 0;
+        int lineStart = skipByteOrderMark();
+        while (lineStart < text.length) {
+            lineNumber++;
+            int next = lineStart;
+            while (next < text.length && text[next] != '\n') {
+                next++;
+            }
+            int lineEnd = next;
+            if (lineEnd > lineStart && text[lineEnd - 1] == '\r') {
+                lineEnd--;
+            }
+
+            // Empty line or comment
+            if (lineEnd == lineStart || text[lineStart] == COMMENT_PREFIX) {
+                // Skipped
+            }
+            // Card count
+            else if (cardCategories == null && startsWith(lineStart, lineEnd, CARD_COUNT_PREFIX)) {
+                int count = parseNumber(lineStart + CARD_COUNT_PREFIX.length, lineEnd);
+                if (count < 0) {
+                    throw invalidLine(lineNumber, "invalid card count");
+                }
+                createCardColumns(count);
+            }
+            // Category header
+            else if (text[lineStart] == CATEGORY_PREFIX) {
+                if (category >= 0) {
+                    endCategory(category);
+                }
+                category = startCategory(lineStart, lineEnd, lineNumber);
+            }
+            // Card
+            else {
+                if (category < 0) {
+                    throw invalidLine(lineNumber, "card before the first category");
+                }
+
+                // Separates the weight from the name
+                float weight = Deck.DEFAULT_WEIGHT;
+                int weightStart = findWeight(lineStart, lineEnd);
+                if (weightStart >= 0) {
+                    weight = parseWeight(weightStart + 1, lineEnd);
+                    if (!(weight > 0) || Float.isInfinite(weight)) {
+                        throw invalidLine(lineNumber, "invalid weight");
+                    }
+                    lineEnd = weightStart;
+                    while (lineEnd > lineStart && text[lineEnd - 1] == ' ') {
+                        lineEnd--;
+                    }
+                }
+
+                // Moves the name to the end of the name table
+                int length = lineEnd - lineStart;
+                System.arraycopy(text, lineStart, text, nameEnd, length);
+                addCard(category, nameEnd, weight);
+                nameEnd += length;
+            }
+
+            lineStart = next + 1;
+        }
+
+        if (category >= 0) {
+            endCategory(category);
+        }
+        if (cardCategories == null) {
+            createCardColumns(0);
+        }
+        nameOffsets[cardCount] = nameEnd;
+
+        Deck deck = new Deck(Arrays.copyOf(cardCategories, cardCount),
+                             cardWeights != null ? Arrays.copyOf(cardWeights, cardCount) : null,
+                             ByteBuffer.wrap(text, 0, nameEnd).slice(),
+                             Arrays.copyOf(nameOffsets, cardCount + 1),
+                             Arrays.copyOf(categorySizes, categoryCount),
+                             Arrays.copyOf(categoryFirstCardIndexes, categoryCount),
+                             Arrays.copyOf(categoryNames, categoryCount));
+        this.text = null;
+        return deck;
+    }
+
+   /**
+    * Creates the card columns in the given size.
+    *
+    * @param count  the number of cards
+    */
+    private void createCardColumns(int count) {
+        cardCategories = new int[count];
+        nameOffsets = new int[count + 1];
+    }
+
+   /**
+    * Adds a card to the card columns. The weight column is
+    * only created when the first card with a weight other
+    * than the default is added.
+    *
+    * @param category   the card's category
+    * @param nameOffset where the card's name starts in the name table
+    * @param weight     the card's weight
+    */
+    private void addCard(int category, int nameOffset, float weight) {
+        if (cardCategories == null) {
+            createCardColumns(DEFAULT_CARD_COUNT);
+        }
+        else if (cardCount == cardCategories.length) {
+            int newLength = Math.max(DEFAULT_CARD_COUNT, cardCount * 2);
+            cardCategories = Arrays.copyOf(cardCategories, newLength);
+            nameOffsets = Arrays.copyOf(nameOffsets, newLength + 1);
+            if (cardWeights != null) {
+                cardWeights = Arrays.copyOf(cardWeights, newLength);
+            }
+        }
+
+        if (cardWeights == null && weight != Deck.DEFAULT_WEIGHT) {
+            cardWeights = new float[cardCategories.length];
+            Arrays.fill(cardWeights, 0, cardCount, Deck.DEFAULT_WEIGHT);
+        }
+
+        cardCategories[cardCount] = category;
+        if (cardWeights != null) {
+            cardWeights[cardCount] = weight;
+        }
+        nameOffsets[cardCount] = nameOffset;
+        cardCount++;
+    }
+
+   /**
+    * Records the start of a category.
+    *
+    * @param lineStart  where the header line starts
+    * @param lineEnd    where the header line ends
+    * @param lineNumber the header's line number
+    * @return the category's index
+    * @throws IOException if the header is invalid
+    */
+    private int startCategory(int lineStart, int lineEnd, int lineNumber) throws IOException {
+        int end = lineStart + 1;
+        while (end < lineEnd && text[end] != ']') {
+            end++;
+        }
+
+        int category = end < lineEnd ? parseNumber(lineStart + 1, end) : -1;
+        if (category < 0) {
+            throw invalidLine(lineNumber, "invalid category number");
+        }
+        if (category < categoryCount && categoryFirstCardIndexes[category] >= 0) {
+            throw invalidLine(lineNumber, "category " + category + " is listed twice");
+        }
+
+        // Adds the category and all previous missing ones
+        if (category >= categorySizes.length) {
+            int newLength = Math.max(category + 1, categorySizes.length * 2);
+            categorySizes = Arrays.copyOf(categorySizes, newLength);
+            categoryFirstCardIndexes = Arrays.copyOf(categoryFirstCardIndexes, newLength);
+            categoryNames = Arrays.copyOf(categoryNames, newLength);
+        }
+        while (categoryCount <= category) {
+            categorySizes[categoryCount] = 0;
+            categoryFirstCardIndexes[categoryCount] = -1;
+            categoryNames[categoryCount] = "";
+            categoryCount++;
+        }
+
+        categoryFirstCardIndexes[category] = cardCount;
+        categoryNames[category] =
+            new String(text, end + 1, lineEnd - end - 1, StandardCharsets.UTF_8).trim();
+        return category;
+    }
+
+   /**
+    * Records the size of the category which was read last.
+    * An empty category has no first card.
+    *
+    * @param category   the category's index
+    */
+    private void endCategory(int category) {
+        categorySizes[category] = cardCount - categoryFirstCardIndexes[category];
+        if (categorySizes[category] == 0) {
+            categoryFirstCardIndexes[category] = -1;
+        }
+    }
+
+   /**
+    * Finds the weight at the end of a card's line. The weight is
+    * an "@" after a space followed by only digits and a point.
+    *
+    * @param lineStart  where the line starts
+    * @param lineEnd    where the line ends
+    * @return where the "@" is or -1 if the card has no weight
+    */
+    private int findWeight(int lineStart, int lineEnd) {
+        int i = lineEnd;
+        while (i > lineStart && (text[i - 1] == '.' ||
+               (text[i - 1] >= '0' && text[i - 1] <= '9'))) {
+            i--;
+        }
+
+        int at = i - 1;
+        if (i == lineEnd || at <= lineStart || text[at] != WEIGHT_PREFIX ||
+            text[at - 1] != ' ') {
+            return -1;
+        }
+
+        return at;
+    }
+
+   /**
+    * Parses a weight, a decimal number with an optional point.
+    *
+    * @param start  where the weight starts
+    * @param end    where the weight ends
+    * @return the weight or NaN if it isn't valid
+    */
+    private float parseWeight(int start, int end) {
+        try {
+            return Float.parseFloat(new String(text, start, end - start,
+                                               StandardCharsets.US_ASCII));
+        }
+        catch (NumberFormatException e) {
+            return Float.NaN;
+        }
+    }
+
+   /**
+    * Skips the byte order mark some editors
+    * write at the start of UTF-8 files.
+    *
+    * @return where the first line starts
+    */
+    private int skipByteOrderMark() {
+        if (text.length >= 3 && (text[0] & 0xff) == 0xef &&
+            (text[1] & 0xff) == 0xbb && (text[2] & 0xff) == 0xbf) {
+            return 3;
+        }
+
+        return 0;
+    }
+
+   /**
+    * Checks whether the line starts with the given bytes.
+    *
+    * @param lineStart  where the line starts
+    * @param lineEnd    where the line ends
+    * @param prefix     the bytes
+    * @return does the line start with the bytes
+    */
+    private boolean startsWith(int lineStart, int lineEnd, byte[] prefix) {
+        if (lineEnd - lineStart < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (text[lineStart + i] != prefix[i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+   /**
+    * Parses a non-negative integer. Spaces around it are ignored.
+    *
+    * @param start  where the number starts
+    * @param end    where the number ends
+    * @return the number or -1 if it isn't valid
+    */
+    private int parseNumber(int start, int end) {
+        while (start < end && text[start] == ' ') {
+            start++;
+        }
+        while (end > start && text[end - 1] == ' ') {
+            end--;
+        }
+        if (start == end || end - start > 9) {
+            return -1;
+        }
+
+        int number = 0;
+        for (int i = start; i < end; i++) {
+            if (text[i] < '0' || text[i] > '9') {
+                return -1;
+            }
+            number = number * 10 + (text[i] - '0');
+        }
+
+        return number;
+    }
+
+   /**
+    * Creates an exception for an invalid line in the card file.
+    *
+    * @param lineNumber the line's number
+    * @param message    what is wrong with the line
+    * @return the exception
+    */
+    private static IOException invalidLine(int lineNumber, String message) {
+        return new IOException("Line " + lineNumber + ": " + message);
+    }
+}
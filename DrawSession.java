@@ -0,0 +1,171 @@
+/**
+ * Card Archive: Game Elements
+ *
+ * Draws cards from an engine's deck for one user or request.
+ *
+ * A session owns everything that changes while drawing: the
+ * card order on top of the deck, the cards drawn since the
+ * last shuffle and, in weighted mode, its own sampler over
+ * the engine's weights. The engine and its deck are only
+ * read, so any number of sessions can draw from the same
+ * engine in different threads without locking. A session
+ * itself is used by one thread at a time. With a lazy order,
+ * a session stores only the positions its draws have swapped,
+ * so creating one costs O(1) and it grows with the cards drawn
+ * rather than with the deck.
+ *
+ * Each shuffle and each independent hand gets the next hand
+ * number, and its shuffler is derived from the session's
+ * shuffler and that number. So with a seed, a session gives
+ * the same cards as parallel generation with the same seed.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class DrawSession {
+    private final Engine engine;
+    private final Shuffler shuffler;
+    private final CardOrder order;
+    private final WeightedSampler sampler;
+    private Shuffler handShuffler;
+    private long nextHand;
+    private int drawnCount;
+
+   /**
+    * Class constructor. Sessions are created by the engine.
+    *
+    * @param engine     the engine
+    * @param shuffler   the shuffler the hands' shufflers are derived from
+    * @param lazy       is the deck shuffled lazily one drawn card at a time
+    */
+    DrawSession(Engine engine, Shuffler shuffler, boolean lazy) {
+        this.engine = engine;
+        this.shuffler = shuffler;
+        this.order = new CardOrder(engine.getDeck().size(), lazy);
+        this.sampler = engine.getWeights() != null
+            ? new WeightedSampler(engine.getWeights()) : null;
+    }
+
+   /**
+    * Gets the number of cards not drawn since the last shuffle.
+    *
+    * @return the number of remaining cards
+    */
+    public int getRemainingCount() {
+        return order.size() - drawnCount;
+    }
+
+   /**
+    * Returns the drawn cards to the deck and shuffles it.
+    */
+    public void shuffle() {
+        handShuffler = shuffler.forHand(nextHand++);
+        if (sampler != null) {
+            sampler.reset();
+        }
+        else {
+            order.shuffle(handShuffler);
+        }
+
+        drawnCount = 0;
+    }
+
+   /**
+    * Draws a card which hasn't been drawn since the last shuffle.
+    * The deck is shuffled before the first card is drawn.
+    * In weighted mode, cards with the weight 0 are never drawn,
+    * so the deck runs out when only they are left.
+    *
+    * @return the card's index or Deck.NO_CARD if all cards are drawn
+    */
+    public int draw() {
+        if (handShuffler == null) {
+            shuffle();
+        }
+        if (drawnCount == order.size()) {
+            return Deck.NO_CARD;
+        }
+
+        int card = sampler != null
+            ? sampler.draw(handShuffler) : order.getCard(handShuffler, drawnCount);
+        if (card == Deck.NO_CARD) {
+            drawnCount = order.size();
+        }
+        else {
+            drawnCount++;
+        }
+        return card;
+    }
+
+   /**
+    * Draws a hand from the cards not yet drawn and sorts it
+    * if the engine has a sorter. The hand is left short if
+    * the deck runs out of cards.
+    *
+    * @param cards  the array the drawn cards are stored in
+    * @param count  how many cards are drawn
+    * @return the number of drawn cards
+    */
+    public int drawHand(int[] cards, int count) {
+        if (handShuffler == null) {
+            shuffle();
+        }
+
+        int drawn = 0;
+        while (drawn < count && getRemainingCount() > 0) {
+            int card = draw();
+            if (card != Deck.NO_CARD) {
+                cards[drawn++] = card;
+            }
+        }
+
+        sort(cards, drawn);
+        return drawn;
+    }
+
+   /**
+    * Draws a hand from a freshly shuffled deck without
+    * changing which cards have been drawn. The hand is
+    * the same as the one with the same number in
+    * parallel generation.
+    *
+    * @param cards  the array the drawn cards are stored in
+    * @param count  how many cards are drawn
+    */
+    public void drawIndependentHand(int[] cards, int count) {
+        Shuffler independentShuffler = shuffler.forHand(reserveHands(1));
+        if (sampler != null) {
+            sampler.drawHand(independentShuffler, cards, count);
+        }
+        else {
+            order.drawHand(independentShuffler, cards, count);
+        }
+
+        sort(cards, count);
+    }
+
+   /**
+    * Reserves numbers for independent hands, e.g. for
+    * generating them with the engine's hand generator.
+    *
+    * @param hands  the number of hands
+    * @return the number of the first hand
+    */
+    public long reserveHands(int hands) {
+        long firstHand = nextHand;
+        nextHand += hands;
+        return firstHand;
+    }
+
+   /**
+    * Sorts a hand if the engine has a sorter.
+    *
+    * @param cards  the hand's cards
+    * @param count  the number of cards
+    */
+    private void sort(int[] cards, int count) {
+        if (engine.getSorter() != null) {
+            engine.getSorter().sort(cards, count);
+        }
+    }
+}
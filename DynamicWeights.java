@@ -0,0 +1,238 @@
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Card weights which can be changed while cards are drawn,
+ * such as lowering the weights of cards users keep rejecting.
+ *
+ * The weights are kept in a Fenwick tree over the card indexes.
+ * Each node holds the sum of the weights of a range of cards
+ * whose length is the lowest set bit of the node's index, so
+ * finding the card at which the sum of the weights passes
+ * a random point and changing a card's weight take O(log n).
+ *
+ * The weights and the tree are changed in place under the
+ * write lock of a StampedLock. Draws read them optimistically
+ * without locking and check the lock's stamp afterwards; a draw
+ * which overlapped a change is repeated under the read lock.
+ * A draw therefore always sees the weights as they were between
+ * two changes, never a change half made, and any number of
+ * threads can draw at the same time. A single weight or the
+ * total weight read on its own is likewise the value before
+ * or after a change. Changes are made one at a time.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class DynamicWeights implements CardWeights {
+    private final double[] weights;
+    private final double[] tree;
+    private final int highestStep;
+    private final StampedLock lock = new StampedLock();
+    private double totalWeight;
+    private volatile long version;
+
+   /**
+    * Class constructor. The weights start as the deck's weights.
+    *
+    * @param deck   the deck
+    */
+    public DynamicWeights(Deck deck) {
+        int n = deck.size();
+        weights = new double[n];
+        tree = new double[n + 1];
+        highestStep = Integer.highestOneBit(n);
+
+        // Builds the tree in O(n) by adding each
+        // node's sum to the node which covers it
+        for (int i = 0; i < n; i++) {
+            weights[i] = deck.getWeight(i);
+            tree[i + 1] = weights[i];
+            totalWeight += weights[i];
+        }
+        for (int node = 1; node <= n; node++) {
+            int parent = node + (node & -node);
+            if (parent <= n) {
+                tree[parent] += tree[node];
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return weights.length;
+    }
+
+    @Override
+    public double getWeight(int card) {
+        long stamp = lock.tryOptimisticRead();
+        double weight = weights[card];
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                weight = weights[card];
+            }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return weight;
+    }
+
+    @Override
+    public double getTotalWeight() {
+        long stamp = lock.tryOptimisticRead();
+        double total = totalWeight;
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                total = totalWeight;
+            }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return total;
+    }
+
+   /**
+    * Gets the number of changes made to the weights.
+    * It's increased after a change has been made.
+    *
+    * @return the version of the weights
+    */
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+   /**
+    * Changes a card's weight. A card with the weight 0 is never drawn.
+    *
+    * @param card   a card's index
+    * @param weight the new weight
+    * @throws IllegalArgumentException if the weight is negative or infinite
+    */
+    public void setWeight(int card, double weight) {
+        if (!(weight >= 0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Invalid weight: " + weight);
+        }
+
+        long stamp = lock.writeLock();
+        try {
+            update(card, weight);
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+   /**
+    * Multiplies a card's weight.
+    *
+    * @param card   a card's index
+    * @param factor the factor
+    * @return the new weight
+    * @throws IllegalArgumentException if the new weight is negative or infinite
+    */
+    public double scaleWeight(int card, double factor) {
+        long stamp = lock.writeLock();
+        try {
+            double weight = weights[card] * factor;
+            if (!(weight >= 0) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Invalid weight: " + weight);
+            }
+            update(card, weight);
+            return weight;
+        }
+        finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+   /**
+    * Changes a card's weight and the O(log n) nodes
+    * above it. The write lock must be held.
+    *
+    * @param card   a card's index
+    * @param weight the new weight
+    */
+    private void update(int card, double weight) {
+        double change = weight - weights[card];
+        weights[card] = weight;
+        for (int node = card + 1; node < tree.length; node += node & -node) {
+            tree[node] += change;
+        }
+        totalWeight += change;
+        version++;
+    }
+
+   /**
+    * Picks a card in proportion to the weights.
+    *
+    * @param shuffler   the shuffler whose random numbers are used
+    * @return the card's index or Deck.NO_CARD if no card has weight
+    */
+    @Override
+    public int sample(Shuffler shuffler) {
+        double point = shuffler.nextDouble();
+        long stamp = lock.tryOptimisticRead();
+        int card = find(point);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                card = find(point);
+            }
+            finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return card;
+    }
+
+   /**
+    * Picks a card by walking down the tree: each step either
+    * skips the node's range if the random point is past its
+    * sum or continues inside the range. Without a lock the
+    * weights can change during the walk, so it only relies on
+    * the arrays' lengths and its result must be validated.
+    *
+    * @param point  a random number between 0 and 1
+    * @return the card's index or Deck.NO_CARD if no card has weight
+    */
+    private int find(double point) {
+        double total = totalWeight;
+        if (!(total > 0)) {
+            return Deck.NO_CARD;
+        }
+
+        double target = point * total;
+        int card = 0;
+        for (int step = highestStep; step > 0; step >>= 1) {
+            int node = card + step;
+            if (node < tree.length && tree[node] <= target) {
+                card = node;
+                target -= tree[node];
+            }
+        }
+
+        // Rounding errors can pass the last card
+        // or stop at a card without weight
+        card = Math.min(card, weights.length - 1);
+        int found = card;
+        while (found >= 0 && weights[found] == 0) {
+            found--;
+        }
+        if (found < 0) {
+            found = card + 1;
+            while (found < weights.length && weights[found] == 0) {
+                found++;
+            }
+        }
+
+        // The total can be left above 0 by rounding
+        // errors after all weights are set to 0
+        return found < weights.length ? found : Deck.NO_CARD;
+    }
+}
@@ -0,0 +1,204 @@
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * The card archive as a library: an immutable snapshot of a
+ * deck and the settings of drawing from it, which can be
+ * shared by any number of threads.
+ *
+ * The engine holds what every draw reads: the deck, its
+ * translation, the cards' weights, the category quota and
+ * the sorter of hands. Everything that changes while drawing
+ * belongs to a DrawSession, which owns its card order and
+ * its drawn cards, so each user or request has its own
+ * session. Hands which don't depend on each other can also
+ * be generated in parallel with the engine's hand generator,
+ * and the deck's cards can be listed without drawing them.
+ *
+ * Drawing normally takes no locks. An alias table never
+ * changes, and dynamic weights are read optimistically and
+ * read again under a read lock only if a weight changed during
+ * the draw. Changes to dynamic weights are made one at a time
+ * under a write lock, which waits for such locked draws but
+ * not for the optimistic ones. The search index, the deck's
+ * alias table and the sorter's name order are built when
+ * they are first needed, and only building them is
+ * synchronized.
+ *
+ * The command line program is one client of the engine,
+ * and the HTTP server is another.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class Engine {
+    private final Deck deck;
+    private final Deck translation;
+    private final CardWeights weights;
+    private final CategoryQuota quota;
+    private final HandSorter sorter;
+    private volatile SearchIndex searchIndex;
+
+   /**
+    * Class constructor. All cards are equally likely
+    * and the hands are not sorted.
+    *
+    * @param deck   the deck
+    */
+    public Engine(Deck deck) {
+        this(deck, null, null, null, null);
+    }
+
+   /**
+    * Class constructor. The cards are printed in
+    * both languages if a translation is given.
+    *
+    * @param deck           the deck
+    * @param translation    the deck in another language or null
+    * @param weights        the weights the cards are drawn by
+    *                       or null if all cards are equally likely
+    * @param quota          how many cards independent hands have
+    *                       from each category or null
+    * @param sorter         the sorter of the hands' cards or null
+    */
+    public Engine(Deck deck, Deck translation, CardWeights weights,
+                  CategoryQuota quota, HandSorter sorter) {
+        this.deck = deck;
+        this.translation = translation;
+        this.weights = weights;
+        this.quota = quota;
+        this.sorter = sorter;
+    }
+
+   /**
+    * Gets the deck.
+    *
+    * @return the deck
+    */
+    public Deck getDeck() {
+        return deck;
+    }
+
+   /**
+    * Gets the deck in the other language.
+    *
+    * @return the translation or null
+    */
+    public Deck getTranslation() {
+        return translation;
+    }
+
+   /**
+    * Gets the weights the cards are drawn by.
+    *
+    * @return the weights or null if all cards are equally likely
+    */
+    public CardWeights getWeights() {
+        return weights;
+    }
+
+   /**
+    * Gets the category quota of independent hands.
+    *
+    * @return the quota or null
+    */
+    public CategoryQuota getQuota() {
+        return quota;
+    }
+
+   /**
+    * Gets the sorter of the hands' cards.
+    *
+    * @return the sorter or null if the hands are not sorted
+    */
+    public HandSorter getSorter() {
+        return sorter;
+    }
+
+   /**
+    * Gets the search index, which is built when it is first
+    * needed. Only building the index is synchronized.
+    *
+    * @return the search index
+    */
+    public SearchIndex getSearchIndex() {
+        SearchIndex index = searchIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = searchIndex;
+                if (index == null) {
+                    index = new SearchIndex(deck);
+                    searchIndex = index;
+                }
+            }
+        }
+
+        return index;
+    }
+
+   /**
+    * Starts a new session for drawing cards.
+    *
+    * @param shuffler   the shuffler the session's shufflers are derived from
+    * @param lazy       is the deck shuffled lazily one drawn card at a time
+    * @return the session
+    */
+    public DrawSession newSession(Shuffler shuffler, boolean lazy) {
+        return new DrawSession(this, shuffler, lazy);
+    }
+
+   /**
+    * Creates a generator of independent hands.
+    *
+    * @param printCategories are the cards' categories printed
+    * @param pool           the pool which runs the tasks or null
+    *                       if hands are only composed directly
+    * @return the hand generator
+    */
+    public HandGenerator newGenerator(boolean printCategories, ForkJoinPool pool) {
+        return new HandGenerator(deck, translation, weights, quota,
+                                 sorter, printCategories, pool);
+    }
+
+   /**
+    * Prints consecutive cards of the deck straight from the deck
+    * as one hand, so the printing begins immediately and a listing
+    * of any size takes no more memory than the printer's buffer.
+    * If the hands are sorted by name, the cards are listed in the
+    * order of their names.
+    *
+    * @param first          the first card's index
+    * @param count          the number of cards
+    * @param printCategories are the cards' categories printed
+    * @param printer        the printer
+    */
+    public void printCards(int first, int count, boolean printCategories,
+                           CardPrinter printer) {
+        int indexWidth = CardPrinter.indexWidth(count);
+
+        // Goes through the cards in the order of their names
+        // and skips the ones outside the listed range
+        if (sorter != null && sorter.getOrder() == HandSorter.Order.NAME) {
+            int listed = 0;
+            for (int card : sorter.getCardsByName()) {
+                if (printer.checkError()) {
+                    break;
+                }
+                if (card >= first && card < first + count) {
+                    printer.printCard(listed++, indexWidth, deck, translation,
+                                      card, printCategories);
+                }
+            }
+        }
+        // The deck is already in the order of the categories
+        else {
+            for (int i = 0; i < count && !printer.checkError(); i++) {
+                printer.printCard(i, indexWidth, deck, translation,
+                                  first + i, printCategories);
+            }
+        }
+
+        printer.endHand();
+    }
+}
@@ -0,0 +1,249 @@
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Generates a large number of hands in parallel.
+ *
+ * Every hand is drawn from a freshly shuffled deck, so the
+ * hands don't depend on each other and can be divided into
+ * tasks in a ForkJoin pool. Each hand has its own shuffler
+ * derived from the given one and the hand's index. Card
+ * orders are borrowed from a shared pool so that only one
+ * is needed per running task. An order is shuffled lazily
+ * one drawn card at a time and restored after each hand.
+ * Because of that, a seeded run gives the same hands
+ * with any number of threads and any single hand can be
+ * drawn again by itself. The tasks encode their hands in
+ * memory, and the encoded hands are printed in the
+ * original order of the hands.
+ *
+ * If the cards have weights, each hand's cards are drawn in
+ * proportion to them with a WeightedSampler instead, and the
+ * samplers are borrowed from a pool the same way. The weights
+ * are shared, so dynamic weights can change between hands.
+ *
+ * If the hands have a category quota, each category's cards
+ * are drawn from the category's own range of the card order.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class HandGenerator {
+    private static final int HANDS_PER_TASK = 256;
+    private static final int TASKS_PER_THREAD = 4;
+    private static final int BYTES_PER_LINE = 48;
+    private static final int MAX_INITIAL_CAPACITY = 1 << 20;
+
+    private final Deck deck;
+    private final Deck translation;
+    private final CardWeights weights;
+    private final CategoryQuota quota;
+    private final HandSorter sorter;
+    private final boolean printCategories;
+    private final ForkJoinPool pool;
+    private final Queue<int[]> cardOrders;
+    private final Queue<WeightedSampler> samplers;
+
+   /**
+    * Class constructor.
+    *
+    * @param deck           the deck
+    * @param printCategories are the cards' categories printed
+    * @param pool           the pool which runs the tasks or null
+    *                       if hands are only composed directly
+    */
+    public HandGenerator(Deck deck, boolean printCategories, ForkJoinPool pool) {
+        this(deck, null, null, null, null, printCategories, pool);
+    }
+
+   /**
+    * Class constructor. The cards are printed in
+    * both languages if a translation is given.
+    *
+    * @param deck           the deck
+    * @param translation    the deck in another language or null
+    * @param weights        the weights the cards are drawn by
+    *                       or null if all cards are equally likely
+    * @param printCategories are the cards' categories printed
+    * @param pool           the pool which runs the tasks or null
+    *                       if hands are only composed directly
+    */
+    public HandGenerator(Deck deck, Deck translation, CardWeights weights,
+                         boolean printCategories, ForkJoinPool pool) {
+        this(deck, translation, weights, null, null, printCategories, pool);
+    }
+
+   /**
+    * Class constructor. The hands are drawn by the category
+    * quota if one is given; then their size must be the
+    * quota's number of cards. The cards of each hand are
+    * sorted before printing if a sorter is given.
+    *
+    * @param deck           the deck
+    * @param translation    the deck in another language or null
+    * @param weights        the weights the cards are drawn by
+    *                       or null if all cards are equally likely
+    * @param quota          how many cards are drawn from
+    *                       each category or null
+    * @param sorter         the sorter of the hands' cards or null
+    * @param printCategories are the cards' categories printed
+    * @param pool           the pool which runs the tasks or null
+    *                       if hands are only composed directly
+    */
+    public HandGenerator(Deck deck, Deck translation, CardWeights weights,
+                         CategoryQuota quota, HandSorter sorter,
+                         boolean printCategories, ForkJoinPool pool) {
+        this.deck = deck;
+        this.translation = translation;
+        this.weights = weights;
+        this.quota = quota;
+        this.sorter = sorter;
+        this.printCategories = printCategories;
+        this.pool = pool;
+        this.cardOrders = new ConcurrentLinkedQueue<int[]>();
+        this.samplers = new ConcurrentLinkedQueue<WeightedSampler>();
+    }
+
+   /**
+    * Generates and prints hands. The tasks are started in
+    * order and their hands are printed as soon as all earlier
+    * hands have been printed. Only a limited number of tasks
+    * are run at a time so that the finished but not yet
+    * printed hands don't fill the memory. No more tasks
+    * are started once writing to the output has failed.
+    *
+    * @param handAmount     the number of hands
+    * @param cardsInHand    the number of cards in a hand
+    * @param shuffler       the shuffler the hands' shufflers are derived from
+    * @param printer        the printer
+    */
+    public void generate(int handAmount, int cardsInHand,
+                         Shuffler shuffler, CardPrinter printer) {
+        int maxTasks = pool.getParallelism() * TASKS_PER_THREAD;
+        Deque<ForkJoinTask<byte[]>> tasks = new ArrayDeque<ForkJoinTask<byte[]>>(maxTasks);
+
+        for (int firstHand = 0; firstHand < handAmount && !printer.checkError();
+                firstHand += HANDS_PER_TASK) {
+            int first = firstHand;
+            int hands = Math.min(HANDS_PER_TASK, handAmount - firstHand);
+            tasks.add(pool.submit(() -> composeHands(first, hands, cardsInHand,
+                                                     shuffler, printer.getCharset())));
+
+            if (tasks.size() >= maxTasks) {
+                printer.printBlock(tasks.poll().join());
+            }
+        }
+
+        while (!tasks.isEmpty()) {
+            printer.printBlock(tasks.poll().join());
+        }
+    }
+
+   /**
+    * Generates and prints a single hand. The hand is
+    * the same as the one with the same index generated
+    * by generate() with the same seed.
+    *
+    * @param handIndex      the hand's index
+    * @param cardsInHand    the number of cards in a hand
+    * @param shuffler       the shuffler the hand's shuffler is derived from
+    * @param printer        the printer
+    */
+    public void generateHand(int handIndex, int cardsInHand,
+                             Shuffler shuffler, CardPrinter printer) {
+        printHands(handIndex, 1, cardsInHand, shuffler, printer);
+    }
+
+   /**
+    * Draws and encodes hands in memory. Can be called from any thread.
+    *
+    * @param firstHand      the index of the first hand
+    * @param hands          the number of hands
+    * @param cardsInHand    the number of cards in a hand
+    * @param shuffler       the shuffler the hands' shufflers are derived from
+    * @param charset        the charset of the output
+    * @return the encoded hands
+    */
+    private byte[] composeHands(long firstHand, int hands, int cardsInHand,
+                                Shuffler shuffler, Charset charset) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(
+            MAX_INITIAL_CAPACITY, (long) hands * (cardsInHand + 1) * BYTES_PER_LINE));
+        CardPrinter printer = new CardPrinter(Channels.newChannel(out), charset, false);
+        printHands(firstHand, hands, cardsInHand, shuffler, printer);
+        printer.flush();
+        return out.toByteArray();
+    }
+
+   /**
+    * Draws and prints hands. Can be called from any
+    * thread as long as the printer is the thread's own.
+    *
+    * @param firstHand      the index of the first hand
+    * @param hands          the number of hands
+    * @param cardsInHand    the number of cards in a hand
+    * @param shuffler       the shuffler the hands' shufflers are derived from
+    * @param printer        the printer
+    */
+    public void printHands(long firstHand, int hands, int cardsInHand,
+                           Shuffler shuffler, CardPrinter printer) {
+        int[] order = null;
+        WeightedSampler sampler = null;
+        if (weights != null) {
+            sampler = samplers.poll();
+            if (sampler == null) {
+                sampler = new WeightedSampler(weights);
+            }
+        }
+        else {
+            order = cardOrders.poll();
+            if (order == null) {
+                order = new int[deck.size()];
+                Shuffler.resetOrder(order, order.length);
+            }
+        }
+
+        int[] hand = new int[cardsInHand];
+        int indexWidth = CardPrinter.indexWidth(cardsInHand);
+        for (int i = 0; i < hands; i++) {
+            if (sampler != null) {
+                sampler.drawHand(shuffler.forHand(firstHand + i), hand, cardsInHand);
+            }
+            else if (quota != null) {
+                quota.drawCards(shuffler.forHand(firstHand + i), order, hand);
+            }
+            else {
+                shuffler.forHand(firstHand + i).drawCards(order, hand, cardsInHand);
+            }
+            if (sorter != null) {
+                sorter.sort(hand, cardsInHand);
+            }
+            for (int j = 0; j < cardsInHand; j++) {
+                // Weighted hands run out if only cards
+                // with the weight 0 are left
+                if (hand[j] != Deck.NO_CARD) {
+                    printer.printCard(j, indexWidth, deck, translation,
+                                      hand[j], printCategories);
+                }
+            }
+            printer.endHand();
+        }
+
+        // Drawing restores the order and the
+        // sampler, so they can be used again
+        if (sampler != null) {
+            samplers.offer(sampler);
+        }
+        else {
+            cardOrders.offer(order);
+        }
+    }
+}
@@ -0,0 +1,507 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Serves hands over HTTP so that the deck stays loaded
+ * between requests instead of starting a new program
+ * for every draw. The server only listens on localhost.
+ *
+ * The endpoints mirror the command line arguments:
+ * - /hand?cards=5              one hand
+ * - /hands?hands=3&cards=5     several hands
+ * - /category?number=3         the cards of a category
+ * - /category?name=combat      the cards of a category
+ * - /all                       all cards
+ * - /search?q=enemy            the cards with the words in their names
+ * - /weight?card=12            a card's weight; "weight=2" sets it and
+ *                              "factor=0.5" multiplies it
+ * - /stats                     the deck's stats and the
+ *                              latency of the served requests
+ *
+ * A response has at most 10 000 hands and 100 000 cards,
+ * so a single request can't fill the server's memory.
+ *
+ * Every served hand is drawn from a freshly shuffled deck
+ * like in parallel generation. The hands are numbered in
+ * the order they are served, so with a seed the server
+ * always serves the same hands in the same order. The
+ * hands follow the engine's category quota and sorting
+ * if it has them, and then a quota decides the hands' size.
+ *
+ * The hands are drawn with the engine's hand generator
+ * rather than a DrawSession. A session draws one user's
+ * consecutive hands without replacement and numbers them on
+ * its own, while the server's hands are independent and
+ * numbered across all requests. The generator draws them
+ * like parallel generation, with the quota, and reuses its
+ * card orders and samplers between requests.
+ *
+ * The cards are numbered as in /all. Weights can only be
+ * changed if the server draws the cards by dynamic weights,
+ * and the changes apply to the hands served after them.
+ *
+ * The error messages and stats are in the language given
+ * to the server, which is English by default.
+ *
+ * Each request is handled in its own virtual thread if the
+ * Java version has them and in a pooled thread otherwise.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class HandServer {
+    private static final int DEFAULT_CARDS_IN_HAND = 5;
+    private static final int MAX_HANDS_PER_REQUEST = 10000;
+    private static final int MAX_CARDS_PER_REQUEST = 100_000;
+    private static final int LATENCY_SAMPLES = 4096;
+    private static final String CONTENT_TYPE = "text/plain; charset=UTF-8";
+
+    private final Engine engine;
+    private final Language language;
+    private final Deck deck;
+    private final Deck translation;
+    private final CardWeights weights;
+    private final boolean printCategories;
+    private final Shuffler shuffler;
+    private final HandGenerator generator;
+    private final AtomicLong nextHand;
+    private final LatencyRecorder latencies;
+    private HttpServer server;
+    private ExecutorService executor;
+
+   /**
+    * Class constructor.
+    *
+    * @param deck               the deck
+    * @param printCategories    are the cards' categories printed
+    * @param shuffler           the shuffler the hands' shufflers are derived from
+    */
+    public HandServer(Deck deck, boolean printCategories, Shuffler shuffler) {
+        this(new Engine(deck), printCategories, shuffler);
+    }
+
+   /**
+    * Class constructor. The cards are served by
+    * the engine's settings, e.g. in both languages
+    * if the engine has a translation.
+    *
+    * @param engine             the engine
+    * @param printCategories    are the cards' categories printed
+    * @param shuffler           the shuffler the hands' shufflers are derived from
+    */
+    public HandServer(Engine engine, boolean printCategories, Shuffler shuffler) {
+        this(engine, Language.forCode(Language.ENGLISH), printCategories, shuffler);
+    }
+
+   /**
+    * Class constructor. The messages are in the given language.
+    *
+    * @param engine             the engine
+    * @param language           the language of the messages
+    * @param printCategories    are the cards' categories printed
+    * @param shuffler           the shuffler the hands' shufflers are derived from
+    */
+    public HandServer(Engine engine, Language language,
+                      boolean printCategories, Shuffler shuffler) {
+        this.engine = engine;
+        this.language = language;
+        this.deck = engine.getDeck();
+        this.translation = engine.getTranslation();
+        this.weights = engine.getWeights();
+        this.printCategories = printCategories;
+        this.shuffler = shuffler;
+        this.generator = engine.newGenerator(printCategories, null);
+        this.nextHand = new AtomicLong();
+        this.latencies = new LatencyRecorder(LATENCY_SAMPLES);
+    }
+
+   /**
+    * Starts serving in the given port.
+    *
+    * @param port   the port
+    * @throws IOException if the server can't be started
+    */
+    public void start(int port) throws IOException {
+        server = HttpServer.create(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        executor = createExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+   /**
+    * Stops the server.
+    */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdown();
+            server = null;
+        }
+    }
+
+   /**
+    * Gets the port the server is listening in.
+    *
+    * @return the port
+    */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+   /**
+    * Creates the executor which runs the request handlers.
+    * Virtual threads are looked up reflectively so that the
+    * server also runs on Java versions which don't have them.
+    *
+    * @return the executor
+    */
+    private static ExecutorService createExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                .getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        }
+        catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+   /**
+    * Handles a request and records how long it took.
+    *
+    * @param exchange   the request and its response
+    * @throws IOException if the response can't be sent
+    */
+    private void handle(HttpExchange exchange) throws IOException {
+        long start = System.nanoTime();
+        try {
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            CardPrinter printer = new CardPrinter(
+                Channels.newChannel(body), StandardCharsets.UTF_8, false);
+            int status = respond(exchange.getRequestURI().getPath(), query, printer);
+            printer.flush();
+            send(exchange, status, body);
+        }
+        finally {
+            exchange.close();
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+   /**
+    * Composes the response to a request.
+    *
+    * @param path     the requested path
+    * @param query    the query parameters
+    * @param printer  the printer of the response
+    * @return the HTTP status code
+    */
+    private int respond(String path, Map<String, String> query, CardPrinter printer) {
+        try {
+            switch (path) {
+                case "/hand": {
+                    return printHands(1, intParam(query, "cards", DEFAULT_CARDS_IN_HAND), printer);
+                }
+                case "/hands": {
+                    return printHands(intParam(query, "hands", 1),
+                        intParam(query, "cards", DEFAULT_CARDS_IN_HAND), printer);
+                }
+                case "/category": {
+                    return printCategory(query, printer);
+                }
+                case "/all": {
+                    printCards(0, deck.size(), printer);
+                    return 200;
+                }
+                case "/search": {
+                    return printSearchResults(query.getOrDefault("q", ""), printer);
+                }
+                case "/weight": {
+                    return printWeight(query, printer);
+                }
+                case "/stats": {
+                    printStats(printer);
+                    return 200;
+                }
+                default: {
+                    printer.printLine(text("server.unknownCommand", path));
+                    return 404;
+                }
+            }
+        }
+        catch (NumberFormatException e) {
+            printer.printLine(text("server.invalidInput"));
+            return 400;
+        }
+    }
+
+   /**
+    * Draws and prints independent hands.
+    *
+    * @param hands          the number of hands
+    * @param cardsInHand    the number of cards in a hand
+    * @param printer        the printer of the response
+    * @return the HTTP status code
+    */
+    private int printHands(int hands, int cardsInHand, CardPrinter printer) {
+        if (engine.getQuota() != null) {
+            cardsInHand = engine.getQuota().getCardCount();
+        }
+
+        if (hands < 1 || cardsInHand < 1 || hands > MAX_HANDS_PER_REQUEST) {
+            printer.printLine(text("server.handsOutOfRange", MAX_HANDS_PER_REQUEST));
+            return 400;
+        }
+        else if (cardsInHand > deck.size()) {
+            printer.printLine(text("error.deckTooSmall", deck.size()));
+            return 400;
+        }
+        // Large hands would otherwise make a response as large as
+        // the deck times the number of hands in the server's memory
+        else if ((long) hands * cardsInHand > MAX_CARDS_PER_REQUEST) {
+            printer.printLine(text("server.tooManyCards", MAX_CARDS_PER_REQUEST));
+            return 400;
+        }
+
+        long firstHand = nextHand.getAndAdd(hands);
+        generator.printHands(firstHand, hands, cardsInHand, shuffler, printer);
+        return 200;
+    }
+
+   /**
+    * Prints the cards of the category
+    * given by its number or name.
+    *
+    * @param query      the query parameters
+    * @param printer    the printer of the response
+    * @return the HTTP status code
+    */
+    private int printCategory(Map<String, String> query, CardPrinter printer) {
+        int category = query.containsKey("name")
+            ? deck.getCategoryIndex().find(query.get("name"))
+            : intParam(query, "number", -1);
+        if (category < 0 || category >= deck.getCategoryCount()) {
+            printer.printLine(text("server.unknownCategory"));
+            return 404;
+        }
+
+        printCards(deck.getCategoryFirstCardIndex(category),
+                   deck.getCategorySize(category), printer);
+        return 200;
+    }
+
+   /**
+    * Prints the cards which match a search query.
+    *
+    * @param searchQuery    the search query
+    * @param printer        the printer of the response
+    * @return the HTTP status code
+    */
+    private int printSearchResults(String searchQuery, CardPrinter printer) {
+        int[] cards = engine.getSearchIndex().search(searchQuery);
+        int indexWidth = CardPrinter.indexWidth(cards.length);
+        for (int i = 0; i < cards.length; i++) {
+            printer.printCard(i, indexWidth, deck, translation, cards[i], printCategories);
+        }
+        printer.endHand();
+        return 200;
+    }
+
+   /**
+    * Prints a card's weight after changing
+    * it if a new weight or a factor is given.
+    *
+    * @param query      the query parameters
+    * @param printer    the printer of the response
+    * @return the HTTP status code
+    */
+    private int printWeight(Map<String, String> query, CardPrinter printer) {
+        int card = intParam(query, "card", 0) - 1;
+        if (card < 0 || card >= deck.size()) {
+            printer.printLine(text("server.unknownCard"));
+            return 404;
+        }
+
+        boolean change = query.containsKey("weight") || query.containsKey("factor");
+        if (change && !(weights instanceof DynamicWeights)) {
+            printer.printLine(text("server.weightsNotDynamic"));
+            return 409;
+        }
+
+        try {
+            if (query.containsKey("weight")) {
+                ((DynamicWeights) weights).setWeight(card,
+                    Double.parseDouble(query.get("weight").trim()));
+            }
+            else if (query.containsKey("factor")) {
+                ((DynamicWeights) weights).scaleWeight(card,
+                    Double.parseDouble(query.get("factor").trim()));
+            }
+        }
+        catch (IllegalArgumentException e) {
+            printer.printLine(text("server.invalidWeight"));
+            return 400;
+        }
+
+        double weight = weights != null ? weights.getWeight(card) : deck.getWeight(card);
+        printer.printLine(deck.getName(card) + ": " + weight);
+        return 200;
+    }
+
+   /**
+    * Prints consecutive cards of the deck as one hand.
+    *
+    * @param first      the first card's index
+    * @param count      the number of cards
+    * @param printer    the printer of the response
+    */
+    private void printCards(int first, int count, CardPrinter printer) {
+        engine.printCards(first, count, printCategories, printer);
+    }
+
+   /**
+    * Prints the deck's stats and the latency of the requests.
+    *
+    * @param printer    the printer of the response
+    */
+    private void printStats(CardPrinter printer) {
+        printer.printLine(text("stats.cards", deck.size()));
+        printer.printLine(text("stats.categories", deck.getCategoryCount()));
+        for (int i = 0; i < deck.getCategoryCount(); i++) {
+            printer.printLine(text("stats.category", i, deck.getCategoryName(i),
+                                   deck.getCategorySize(i)));
+        }
+
+        long[] samples = latencies.snapshot();
+        printer.printLine("");
+        printer.printLine(text("server.requests", latencies.count()));
+        printer.printLine(text("server.latency", 50, percentile(samples, 50) / 1e6));
+        printer.printLine(text("server.latency", 99, percentile(samples, 99) / 1e6));
+    }
+
+   /**
+    * Sends the response.
+    *
+    * @param exchange   the request and its response
+    * @param status     the HTTP status code
+    * @param body       the response's encoded text
+    * @throws IOException if the response can't be sent
+    */
+    private static void send(HttpExchange exchange, int status,
+                             ByteArrayOutputStream body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.size() > 0 ? body.size() : -1);
+        try (OutputStream out = exchange.getResponseBody()) {
+            body.writeTo(out);
+        }
+    }
+
+   /**
+    * Returns a message in the server's language.
+    *
+    * @param key    the message's key
+    * @param args   the values of the message's format specifiers
+    * @return the message
+    */
+    private String text(String key, Object... args) {
+        return language.format(key, args);
+    }
+
+   /**
+    * Parses the query parameters of a request.
+    *
+    * @param rawQuery   the query part of the URI or null
+    * @return the parameters by their lower case names
+    */
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<String, String>();
+        if (rawQuery == null) {
+            return query;
+        }
+
+        for (String param : rawQuery.split("&")) {
+            int separator = param.indexOf('=');
+            String name = separator >= 0 ? param.substring(0, separator) : param;
+            String value = separator >= 0 ? param.substring(separator + 1) : "";
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8).toLowerCase(),
+                      URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+
+        return query;
+    }
+
+   /**
+    * Gets an integer query parameter.
+    *
+    * @param query          the query parameters
+    * @param name           the parameter's name
+    * @param defaultValue   the value if the parameter isn't given
+    * @return the parameter's value
+    * @throws NumberFormatException if the value isn't an integer
+    */
+    private static int intParam(Map<String, String> query, String name, int defaultValue) {
+        String value = query.get(name);
+        return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+    }
+
+   /**
+    * Returns the given percentile of sorted samples.
+    *
+    * @param sorted     the samples in ascending order
+    * @param percentile the percentile between 0 and 100
+    * @return the sample at the percentile or 0 if there are no samples
+    */
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+   /**
+    * Keeps the latencies of the most recent requests.
+    */
+    private static class LatencyRecorder {
+        private final long[] samples;
+        private long count;
+
+        LatencyRecorder(int capacity) {
+            samples = new long[capacity];
+        }
+
+        synchronized void record(long nanos) {
+            samples[(int) (count % samples.length)] = nanos;
+            count++;
+        }
+
+        synchronized long count() {
+            return count;
+        }
+
+        synchronized long[] snapshot() {
+            long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
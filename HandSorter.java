@@ -0,0 +1,216 @@
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Sorts the cards of a hand by their categories or names.
+ *
+ * There are only a few categories, so sorting by category is
+ * a stable counting sort which takes O(n + categories) time.
+ * Sorting by name uses the collation order of the deck's
+ * language. Each card's rank in that order is computed once
+ * from collation keys, so sorting a hand only compares
+ * integers and doesn't compare strings at all. Creating the
+ * keys is the slow part, so it's only done when the first
+ * hand is sorted by name.
+ *
+ * A sorter can be shared by several threads, and only
+ * computing the ranks is synchronized.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class HandSorter {
+    public enum Order {
+        NONE("none"),
+        CATEGORY("category"),
+        NAME("name");
+
+        private final String optionName;
+
+        Order(String optionName) {
+            this.optionName = optionName;
+        }
+
+       /**
+        * Gets the name used for the order in command line.
+        *
+        * @return the order's option name
+        */
+        public String getOptionName() {
+            return optionName;
+        }
+
+       /**
+        * Returns the order with the given option name.
+        *
+        * @param optionName an order's option name
+        * @return the order or null if there is no such order
+        */
+        public static Order forOptionName(String optionName) {
+            for (Order order : values()) {
+                if (order.optionName.equalsIgnoreCase(optionName)) {
+                    return order;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private final Deck deck;
+    private final Order order;
+    private final Locale locale;
+    private volatile int[] nameRanks;
+    private volatile int[] cardsByName;
+
+   /**
+    * Class constructor.
+    *
+    * @param deck       the deck
+    * @param order      the order the cards are sorted in
+    * @param locale     the locale whose collation is used for the names
+    */
+    public HandSorter(Deck deck, Order order, Locale locale) {
+        this.deck = deck;
+        this.order = order;
+        this.locale = locale;
+    }
+
+   /**
+    * Gets the order the cards are sorted in.
+    *
+    * @return the order
+    */
+    public Order getOrder() {
+        return order;
+    }
+
+   /**
+    * Sorts the first cards of a hand. Missing cards are put last.
+    *
+    * @param cards  the hand's cards
+    * @param count  the number of cards sorted
+    */
+    public void sort(int[] cards, int count) {
+        if (order == Order.CATEGORY) {
+            sortByCategory(cards, count);
+        }
+        else if (order == Order.NAME) {
+            sortByName(cards, count);
+        }
+    }
+
+   /**
+    * Gets the cards in the order of their names. The
+    * order is computed when it is first needed.
+    *
+    * @return the card indexes sorted by name
+    */
+    public int[] getCardsByName() {
+        initNameRanks();
+        return cardsByName;
+    }
+
+   /**
+    * Sorts cards by their categories with a counting sort,
+    * keeping the cards of a category in their order.
+    *
+    * @param cards  the cards
+    * @param count  the number of cards sorted
+    */
+    private void sortByCategory(int[] cards, int count) {
+        int categories = deck.getCategoryCount();
+
+        // Counts the cards in each category; missing
+        // cards are counted after the last category
+        int[] starts = new int[categories + 3];
+        for (int i = 0; i < count; i++) {
+            starts[categoryOf(cards[i], categories) + 2]++;
+        }
+
+        // Turns the counts into each category's first position
+        for (int i = 2; i < starts.length; i++) {
+            starts[i] += starts[i - 1];
+        }
+
+        int[] sorted = new int[count];
+        for (int i = 0; i < count; i++) {
+            sorted[starts[categoryOf(cards[i], categories) + 1]++] = cards[i];
+        }
+        System.arraycopy(sorted, 0, cards, 0, count);
+    }
+
+   /**
+    * Gets a card's category for the counting sort.
+    *
+    * @param card       a card's index
+    * @param categories the number of categories
+    * @return the category or the number of categories if there is no card
+    */
+    private int categoryOf(int card, int categories) {
+        return card == Deck.NO_CARD ? categories : deck.getCategory(card);
+    }
+
+   /**
+    * Sorts cards by their names by replacing
+    * them with their ranks, sorting the ranks
+    * and replacing the ranks with the cards.
+    *
+    * @param cards  the cards
+    * @param count  the number of cards sorted
+    */
+    private void sortByName(int[] cards, int count) {
+        initNameRanks();
+        for (int i = 0; i < count; i++) {
+            cards[i] = cards[i] == Deck.NO_CARD ? cardsByName.length : nameRanks[cards[i]];
+        }
+        Arrays.sort(cards, 0, count);
+        for (int i = 0; i < count; i++) {
+            cards[i] = cards[i] == cardsByName.length ? Deck.NO_CARD : cardsByName[cards[i]];
+        }
+    }
+
+   /**
+    * Computes each card's rank in the order of the names if
+    * it hasn't been done yet.
+    */
+    private void initNameRanks() {
+        if (nameRanks == null) {
+            computeNameRanks();
+        }
+    }
+
+   /**
+    * Computes each card's rank in the order of the names
+    * unless another thread has just done it. Cards with
+    * the same name stay in their order in the deck.
+    */
+    private synchronized void computeNameRanks() {
+        if (nameRanks != null) {
+            return;
+        }
+
+        // Comparing the keys' bytes is much faster than
+        // comparing the keys or the names with the collator
+        Collator collator = Collator.getInstance(locale);
+        byte[][] keys = new byte[deck.size()][];
+        Integer[] sorted = new Integer[deck.size()];
+        for (int card = 0; card < keys.length; card++) {
+            keys[card] = collator.getCollationKey(deck.getName(card)).toByteArray();
+            sorted[card] = card;
+        }
+        Arrays.sort(sorted, (a, b) -> Arrays.compareUnsigned(keys[a], keys[b]));
+
+        int[] ranks = new int[keys.length];
+        int[] byName = new int[keys.length];
+        for (int rank = 0; rank < sorted.length; rank++) {
+            byName[rank] = sorted[rank];
+            ranks[sorted[rank]] = rank;
+        }
+        cardsByName = byName;
+        nameRanks = ranks;
+    }
+}
@@ -0,0 +1,150 @@
+import java.util.Locale;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * The messages, command words and card file of a language.
+ *
+ * Each language has its own file, locales/messages_<code>.properties,
+ * with the same keys in every language. A language's file is read
+ * when the language is looked up by its code, so a run reads only
+ * the languages it uses. The card files of all languages have the same
+ * cards in the same order, so a card's index is its ID in every
+ * language and only the names differ.
+ *
+ * Commands are matched against the words listed in the language's
+ * file. If the language has a command prefix length, only that
+ * many first letters of a longer command are compared, so the
+ * commands can be shortened.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class Language {
+    public static final String ENGLISH = "en";
+    public static final String BILINGUAL_SEPARATOR = "+";
+    private static final String MESSAGES = "locales.messages";
+    public static final String MESSAGE_FILE = "locales/messages_%s.properties";
+    private static final String DECK_FILE_KEY = "deck.file";
+    private static final String PREFIX_LENGTH_KEY = "command.prefixLength";
+
+    private final String code;
+    private final ResourceBundle messages;
+    private int commandPrefixLength = -1;
+
+   /**
+    * Class constructor.
+    *
+    * @param code       the language's code
+    * @param messages   the language's messages
+    */
+    private Language(String code, ResourceBundle messages) {
+        this.code = code;
+        this.messages = messages;
+    }
+
+   /**
+    * Finds a language by its code, such as "en" or "fi",
+    * and reads its messages.
+    *
+    * @param code   the language's code
+    * @return the language or null if there is no such language
+    *         or its messages can't be read from the class path
+    */
+    public static Language forCode(String code) {
+        String lowerCaseCode = code.toLowerCase(Locale.ROOT);
+        if (lowerCaseCode.isEmpty() || Language.class.getClassLoader()
+                .getResource(String.format(MESSAGE_FILE, lowerCaseCode)) == null) {
+            return null;
+        }
+
+        try {
+            return new Language(lowerCaseCode, ResourceBundle.getBundle(MESSAGES,
+                Locale.forLanguageTag(lowerCaseCode),
+                ResourceBundle.Control.getNoFallbackControl(
+                    ResourceBundle.Control.FORMAT_PROPERTIES)));
+        }
+        catch (MissingResourceException e) {
+            return null;
+        }
+    }
+
+   /**
+    * Gets the language's code.
+    *
+    * @return the code
+    */
+    public String getCode() {
+        return code;
+    }
+
+   /**
+    * Gets the default card file of the language.
+    *
+    * @return the card file's path
+    */
+    public String getDeckFile() {
+        return get(DECK_FILE_KEY);
+    }
+
+   /**
+    * Gets a message.
+    *
+    * @param key    the message's key
+    * @return the message
+    */
+    public String get(String key) {
+        return messages.getString(key);
+    }
+
+   /**
+    * Gets a message and fills in its format specifiers.
+    *
+    * @param key    the message's key
+    * @param args   the values of the format specifiers
+    * @return the formatted message
+    */
+    public String format(String key, Object... args) {
+        return String.format(get(key), args);
+    }
+
+   /**
+    * Checks whether the given input is one of the command's words.
+    *
+    * @param key    the key of the command's words
+    * @param input  the given input
+    * @return is the input the command
+    */
+    public boolean isCommand(String key, String input) {
+        if (commandPrefixLength < 0) {
+            commandPrefixLength = Integer.parseInt(get(PREFIX_LENGTH_KEY));
+        }
+
+        String command = input;
+        if (commandPrefixLength > 0 && input.length() > commandPrefixLength) {
+            command = input.substring(0, commandPrefixLength);
+        }
+
+        return isWord(key, command);
+    }
+
+   /**
+    * Checks whether the given input is one of the
+    * words listed with the key, ignoring the case.
+    *
+    * @param key    the key of the words
+    * @param input  the given input
+    * @return is the input one of the words
+    */
+    public boolean isWord(String key, String input) {
+        for (String word : get(key).split("\\s+")) {
+            if (word.equalsIgnoreCase(input)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
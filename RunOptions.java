@@ -0,0 +1,98 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Separates options such as "--seed=123" from the
+ * other command line arguments. The remaining arguments
+ * keep their order so they can be parsed as before.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class RunOptions {
+    private static final String OPTION_PREFIX = "--";
+
+    private final Map<String, String> options;
+    private final String[] arguments;
+
+   /**
+    * Class constructor.
+    *
+    * @param cmdArgs the arguments given in command line
+    */
+    public RunOptions(String[] cmdArgs) {
+        options = new HashMap<String, String>();
+        List<String> rest = new ArrayList<String>(cmdArgs.length);
+        for (String arg : cmdArgs) {
+            if (arg.startsWith(OPTION_PREFIX) && arg.length() > OPTION_PREFIX.length()) {
+                int separator = arg.indexOf('=');
+                if (separator < 0) {
+                    options.put(arg.substring(OPTION_PREFIX.length()).toLowerCase(), "");
+                }
+                else {
+                    options.put(arg.substring(OPTION_PREFIX.length(), separator).toLowerCase(),
+                                arg.substring(separator + 1));
+                }
+            }
+            else {
+                rest.add(arg);
+            }
+        }
+
+        arguments = rest.toArray(new String[rest.size()]);
+    }
+
+   /**
+    * Gets the arguments which are not options.
+    *
+    * @return the remaining arguments
+    */
+    public String[] getArguments() {
+        return arguments;
+    }
+
+   /**
+    * Checks whether the option was given.
+    *
+    * @param name   the option's name without the dashes
+    * @return was the option given
+    */
+    public boolean has(String name) {
+        return options.containsKey(name);
+    }
+
+   /**
+    * Finds an option which is not one of the known ones,
+    * such as a misspelled "--sed=123".
+    *
+    * @param knownNames the known options' names without the dashes
+    * @return the first unknown option with its dashes,
+    *         or null if all options are known
+    */
+    public String findUnknownOption(String... knownNames) {
+        List<String> known = Arrays.asList(knownNames);
+        for (String name : options.keySet()) {
+            if (!known.contains(name)) {
+                return OPTION_PREFIX + name;
+            }
+        }
+        return null;
+    }
+
+   /**
+    * Gets an option's value.
+    *
+    * @param name           the option's name without the dashes
+    * @param defaultValue   returned if the option was not given
+    * @return the option's value
+    */
+    public String get(String name, String defaultValue) {
+        String value = options.get(name);
+        return value != null ? value : defaultValue;
+    }
+}
@@ -0,0 +1,473 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * An inverted index of the words in the cards' names.
+ *
+ * The names are split into words at every character which
+ * isn't a letter or a digit, and the words are lower cased.
+ * For each word, the index has a posting list of the cards
+ * whose names contain it. The card indexes in a list are in
+ * ascending order and stored as variable-length differences
+ * to the previous index, so a list of nearby cards takes
+ * about a byte per card. All lists are in one byte array.
+ *
+ * A query consists of words and "quoted phrases". Cards must
+ * match all of them unless they are separated with OR (or |),
+ * in which case matching either side is enough. A phrase
+ * matches when its words are next to each other in a name,
+ * which is checked only for the cards that have all of them.
+ *
+ * Misspelled words can be corrected to the most similarly
+ * spelled words in the index with a trigram index, which is
+ * built when it is first needed.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class SearchIndex {
+    private static final String OR = "OR";
+    private static final char OR_SYMBOL = '|';
+    private static final char QUOTE = '"';
+    private static final int[] NO_CARDS = new int[0];
+
+    private final Deck deck;
+    private final Map<String, Integer> termIds;
+    private final String[] terms;
+    private final byte[] postings;
+    private final int[] postingOffsets;
+    private final int[] cardCounts;
+    private TrigramIndex similarTerms;
+
+   /**
+    * Class constructor. Indexes the names of the deck's cards.
+    *
+    * @param deck   the deck
+    */
+    public SearchIndex(Deck deck) {
+        this.deck = deck;
+        this.termIds = new HashMap<String, Integer>();
+
+        // Collects each card's distinct words as term ids
+        int[] cardTermStarts = new int[deck.size() + 1];
+        int[] cardTerms = new int[Math.max(16, deck.size() * 4)];
+        int termAmount = 0;
+        int[] counts = new int[64];
+        List<String> words = new ArrayList<String>();
+        for (int card = 0; card < deck.size(); card++) {
+            cardTermStarts[card] = termAmount;
+            words.clear();
+            tokenize(deck.getName(card), words);
+            for (String word : words) {
+                Integer termId = termIds.get(word);
+                if (termId == null) {
+                    termId = termIds.size();
+                    termIds.put(word, termId);
+                }
+                if (contains(cardTerms, cardTermStarts[card], termAmount, termId)) {
+                    continue;
+                }
+
+                if (termAmount == cardTerms.length) {
+                    cardTerms = Arrays.copyOf(cardTerms, termAmount * 2);
+                }
+                if (termId >= counts.length) {
+                    counts = Arrays.copyOf(counts, counts.length * 2);
+                }
+                cardTerms[termAmount++] = termId;
+                counts[termId]++;
+            }
+        }
+        cardTermStarts[deck.size()] = termAmount;
+        cardCounts = Arrays.copyOf(counts, termIds.size());
+        terms = new String[termIds.size()];
+        for (Map.Entry<String, Integer> term : termIds.entrySet()) {
+            terms[term.getValue()] = term.getKey();
+        }
+
+        // Sorts the cards by term: the cards are visited
+        // in order, so each term's cards stay ascending
+        int[] termStarts = new int[cardCounts.length + 1];
+        for (int term = 0; term < cardCounts.length; term++) {
+            termStarts[term + 1] = termStarts[term] + cardCounts[term];
+        }
+        int[] next = Arrays.copyOf(termStarts, cardCounts.length);
+        int[] cardsByTerm = new int[termAmount];
+        for (int card = 0; card < deck.size(); card++) {
+            for (int i = cardTermStarts[card]; i < cardTermStarts[card + 1]; i++) {
+                cardsByTerm[next[cardTerms[i]]++] = card;
+            }
+        }
+
+        // Compresses the posting lists
+        postingOffsets = new int[cardCounts.length + 1];
+        byte[] bytes = new byte[Math.max(16, termAmount * 2)];
+        int length = 0;
+        for (int term = 0; term < cardCounts.length; term++) {
+            postingOffsets[term] = length;
+            int previous = 0;
+            for (int i = termStarts[term]; i < termStarts[term + 1]; i++) {
+                if (length + 5 > bytes.length) {
+                    bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                }
+                length = writeVarInt(bytes, length, cardsByTerm[i] - previous);
+                previous = cardsByTerm[i];
+            }
+        }
+        postingOffsets[cardCounts.length] = length;
+        postings = Arrays.copyOf(bytes, length);
+    }
+
+   /**
+    * Finds the cards which match the query.
+    *
+    * @param query  the query
+    * @return the matching cards' indexes in ascending order
+    */
+    public int[] search(String query) {
+        return search(query, null);
+    }
+
+   /**
+    * Finds the cards which match the query. If a corrections
+    * map is given, words which aren't in the index are
+    * replaced with the most similarly spelled words.
+    *
+    * @param query          the query
+    * @param corrections    the map the corrected words are put in
+    *                       with their corrections or null if words
+    *                       are not corrected
+    * @return the matching cards' indexes in ascending order
+    */
+    public int[] search(String query, Map<String, String> corrections) {
+        int[] result = NO_CARDS;
+        List<List<String>> clause = new ArrayList<List<String>>();
+        int i = 0;
+        while (i <= query.length()) {
+
+            // End of the query or an OR ends the clause
+            int end = skipSpaces(query, i);
+            if (end == query.length() || isOr(query, end)) {
+                if (!clause.isEmpty()) {
+                    int[] cards = findClause(clause, corrections);
+                    result = result.length == 0 ? cards : union(result, cards);
+                    clause.clear();
+                }
+                i = end == query.length() ? end + 1
+                    : end + (query.charAt(end) == OR_SYMBOL ? 1 : OR.length());
+                continue;
+            }
+
+            // A phrase or a word
+            int itemEnd;
+            List<String> words = new ArrayList<String>();
+            if (query.charAt(end) == QUOTE) {
+                itemEnd = query.indexOf(QUOTE, end + 1);
+                if (itemEnd < 0) {
+                    itemEnd = query.length();
+                }
+                tokenize(query.substring(end + 1, itemEnd), words);
+                itemEnd = Math.min(query.length(), itemEnd + 1);
+            }
+            else {
+                itemEnd = end;
+                while (itemEnd < query.length() &&
+                       !Character.isWhitespace(query.charAt(itemEnd)) &&
+                       query.charAt(itemEnd) != QUOTE &&
+                       query.charAt(itemEnd) != OR_SYMBOL) {
+                    itemEnd++;
+                }
+                tokenize(query.substring(end, itemEnd), words);
+            }
+
+            if (!words.isEmpty()) {
+                clause.add(words);
+            }
+            i = itemEnd;
+        }
+
+        return result;
+    }
+
+   /**
+    * Finds the cards which match all words and phrases of a
+    * clause. The posting lists are intersected from the
+    * shortest one, and only the cards left at the end are
+    * checked for having the phrases' words next to each other.
+    *
+    * @param clause         the words and phrases, each phrase as its words
+    * @param corrections    the map the corrected words are put in
+    *                       or null if words are not corrected
+    * @return the cards' indexes in ascending order
+    */
+    private int[] findClause(List<List<String>> clause, Map<String, String> corrections) {
+        List<Integer> clauseTerms = new ArrayList<Integer>();
+        boolean phrases = false;
+        for (List<String> words : clause) {
+            phrases |= words.size() > 1;
+            for (int i = 0; i < words.size(); i++) {
+                Integer termId = termIds.get(words.get(i));
+                if (termId == null && corrections != null) {
+                    termId = correct(words.get(i), corrections);
+                    if (termId != null) {
+                        words.set(i, terms[termId]);
+                    }
+                }
+                if (termId == null) {
+                    return NO_CARDS;
+                }
+                clauseTerms.add(termId);
+            }
+        }
+        clauseTerms.sort((a, b) -> Integer.compare(cardCounts[a], cardCounts[b]));
+
+        int[] cards = decode(clauseTerms.get(0));
+        for (int i = 1; i < clauseTerms.size() && cards.length > 0; i++) {
+            cards = intersect(cards, decode(clauseTerms.get(i)));
+        }
+        if (!phrases) {
+            return cards;
+        }
+
+        // Keeps only the cards with each phrase's words next to each other
+        int matches = 0;
+        List<String> nameWords = new ArrayList<String>();
+        for (int card : cards) {
+            boolean match = true;
+            nameWords.clear();
+            for (List<String> words : clause) {
+                if (words.size() > 1) {
+                    if (nameWords.isEmpty()) {
+                        tokenize(deck.getName(card), nameWords);
+                    }
+                    if (Collections.indexOfSubList(nameWords, words) < 0) {
+                        match = false;
+                        break;
+                    }
+                }
+            }
+            if (match) {
+                cards[matches++] = card;
+            }
+        }
+
+        return Arrays.copyOf(cards, matches);
+    }
+
+   /**
+    * Finds the word in the index which is spelled the most
+    * similarly to the given word.
+    *
+    * @param word           a word which isn't in the index
+    * @param corrections    the map the correction is put in
+    * @return the correction's term id or null if
+    *         no word is similar enough
+    */
+    private Integer correct(String word, Map<String, String> corrections) {
+        int similar = getSimilarTerms().findBest(word);
+        if (similar < 0) {
+            return null;
+        }
+
+        corrections.put(word, terms[similar]);
+        return similar;
+    }
+
+   /**
+    * Gets the trigram index of the words,
+    * which is built when it is first needed.
+    *
+    * @return the trigram index
+    */
+    private synchronized TrigramIndex getSimilarTerms() {
+        if (similarTerms == null) {
+            similarTerms = new TrigramIndex(terms);
+        }
+
+        return similarTerms;
+    }
+
+   /**
+    * Decodes a term's posting list.
+    *
+    * @param termId the term's id
+    * @return the cards' indexes in ascending order
+    */
+    private int[] decode(int termId) {
+        int[] cards = new int[cardCounts[termId]];
+        int position = postingOffsets[termId];
+        int card = 0;
+        for (int i = 0; i < cards.length; i++) {
+            int delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = postings[position++];
+                delta |= (b & 0x7f) << shift;
+                shift += 7;
+            } while (b < 0);
+
+            card += delta;
+            cards[i] = card;
+        }
+
+        return cards;
+    }
+
+   /**
+    * Splits a text into lower case words.
+    *
+    * @param text   a text
+    * @param words  the list the words are added to
+    */
+    static void tokenize(String text, List<String> words) {
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() &&
+                Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            }
+            else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+    }
+
+   /**
+    * Writes a variable-length integer: 7 bits per byte,
+    * the highest bit telling whether more bytes follow.
+    *
+    * @param bytes      the array
+    * @param position   where the integer is written
+    * @param value      a non-negative integer
+    * @return the position after the integer
+    */
+    private static int writeVarInt(byte[] bytes, int position, int value) {
+        while (value >= 0x80) {
+            bytes[position++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        bytes[position++] = (byte) value;
+        return position;
+    }
+
+   /**
+    * Returns the cards which are in both sorted arrays.
+    *
+    * @param a  card indexes in ascending order
+    * @param b  card indexes in ascending order
+    * @return the common card indexes in ascending order
+    */
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int length = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            }
+            else if (a[i] > b[j]) {
+                j++;
+            }
+            else {
+                result[length++] = a[i];
+                i++;
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, length);
+    }
+
+   /**
+    * Returns the cards which are in either sorted array.
+    *
+    * @param a  card indexes in ascending order
+    * @param b  card indexes in ascending order
+    * @return the card indexes in ascending order
+    */
+    private static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int length = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length || j < b.length) {
+            if (j == b.length || (i < a.length && a[i] < b[j])) {
+                result[length++] = a[i++];
+            }
+            else if (i == a.length || b[j] < a[i]) {
+                result[length++] = b[j++];
+            }
+            else {
+                result[length++] = a[i];
+                i++;
+                j++;
+            }
+        }
+
+        return Arrays.copyOf(result, length);
+    }
+
+   /**
+    * Checks whether the given array contains the value
+    * between the given positions.
+    *
+    * @param array  an array
+    * @param start  the first position
+    * @param end    the position after the last
+    * @param value  the value
+    * @return is the value in the array
+    */
+    private static boolean contains(int[] array, int start, int end, int value) {
+        for (int i = start; i < end; i++) {
+            if (array[i] == value) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+   /**
+    * Checks whether there is an OR at the given position.
+    *
+    * @param query      the query
+    * @param position   a position in the query
+    * @return is there an OR
+    */
+    private static boolean isOr(String query, int position) {
+        if (query.charAt(position) == OR_SYMBOL) {
+            return true;
+        }
+
+        int end = position + OR.length();
+        return query.startsWith(OR, position) &&
+               (end == query.length() || Character.isWhitespace(query.charAt(end)));
+    }
+
+   /**
+    * Skips whitespace.
+    *
+    * @param query      the query
+    * @param position   a position in the query
+    * @return the position of the next other character
+    *         or the query's length
+    */
+    private static int skipSpaces(String query, int position) {
+        while (position < query.length() && Character.isWhitespace(query.charAt(position))) {
+            position++;
+        }
+
+        return position;
+    }
+}
@@ -0,0 +1,282 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Shuffles the order in which the cards are drawn.
+ *
+ * The deck itself is not moved; instead, an array of card
+ * indexes is shuffled with the Fisher-Yates algorithm so
+ * that every order is equally likely. The array can also be
+ * shuffled lazily, one drawn card at a time. Shuffling allocates
+ * nothing and a seed can be given for reproducible runs.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class Shuffler {
+
+   /**
+    * The random number generators a shuffler can use.
+    */
+    public enum Generator {
+        SPLITTABLE("splittable"),
+        XOSHIRO("xoshiro"),
+        THREAD_LOCAL("threadlocal");
+
+        private final String optionName;
+
+        Generator(String optionName) {
+            this.optionName = optionName;
+        }
+
+       /**
+        * Gets the name used for the generator in command line.
+        *
+        * @return the generator's option name
+        */
+        public String getOptionName() {
+            return optionName;
+        }
+
+       /**
+        * Returns the generator with the given option name.
+        *
+        * @param optionName a generator's option name
+        * @return the generator or null if there is no such generator
+        */
+        public static Generator forOptionName(String optionName) {
+            for (Generator generator : values()) {
+                if (generator.optionName.equalsIgnoreCase(optionName)) {
+                    return generator;
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private static final String XOSHIRO_ALGORITHM = "Xoshiro256PlusPlus";
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final Generator generator;
+    private final long seed;
+    private final RandomGenerator random;
+
+   /**
+    * Class constructor. The generator is seeded randomly.
+    *
+    * @param generator  the random number generator
+    */
+    public Shuffler(Generator generator) {
+        this.generator = generator;
+        switch (generator) {
+            case SPLITTABLE:
+            case XOSHIRO: {
+                seed = new SplittableRandom().nextLong();
+                random = createRandom(generator, seed);
+                break;
+            }
+            default: {
+                seed = 0;
+                random = null;
+                break;
+            }
+        }
+    }
+
+   /**
+    * Class constructor. The same seed always gives the same shuffles.
+    *
+    * @param generator  the random number generator
+    * @param seed       the seed of the generator
+    * @throws IllegalArgumentException if the generator can't be seeded
+    */
+    public Shuffler(Generator generator, long seed) {
+        if (generator == Generator.THREAD_LOCAL) {
+            throw new IllegalArgumentException(
+                generator.getOptionName() + " can't be seeded");
+        }
+
+        this.generator = generator;
+        this.seed = seed;
+        this.random = createRandom(generator, seed);
+    }
+
+   /**
+    * Creates a seeded instance of a random number generator.
+    *
+    * @param generator  the random number generator
+    * @param seed       the seed of the generator
+    * @return the generator's instance
+    */
+    private static RandomGenerator createRandom(Generator generator, long seed) {
+        if (generator == Generator.XOSHIRO) {
+            return XoshiroFactory.FACTORY.create(seed);
+        }
+
+        return new SplittableRandom(seed);
+    }
+
+   /**
+    * Creates the shuffler of the hand with the given index.
+    *
+    * The hand's seed is derived from this shuffler's seed and
+    * the hand's index with SplitMix64, the same mixing function
+    * SplittableRandom uses for its own seeds. Any hand can thus
+    * be drawn again without drawing the hands before it, and
+    * the hands are the same no matter which thread draws them.
+    * The shufflers of ThreadLocalRandom can't be seeded, so
+    * this shuffler itself is returned for them.
+    *
+    * @param handIndex  the hand's index
+    * @return the hand's shuffler
+    */
+    public Shuffler forHand(long handIndex) {
+        if (random == null) {
+            return this;
+        }
+
+        return new Shuffler(generator, mix64(seed + (handIndex + 1) * GOLDEN_GAMMA));
+    }
+
+   /**
+    * Mixes the bits of a 64-bit value (SplitMix64's finalizer).
+    *
+    * @param z  a value
+    * @return the mixed value
+    */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+   /**
+    * Gets the seed of the generator.
+    *
+    * @return the seed or 0 if the generator isn't seeded
+    */
+    public long getSeed() {
+        return seed;
+    }
+
+   /**
+    * Gets the random number generator.
+    *
+    * @return the generator
+    */
+    public Generator getGenerator() {
+        return generator;
+    }
+
+   /**
+    * Returns a random integer between 0 (inclusive)
+    * and the given bound (exclusive).
+    *
+    * @param bound  the upper bound
+    * @return a random integer
+    */
+    public int nextInt(int bound) {
+        return random().nextInt(bound);
+    }
+
+   /**
+    * Returns a random number between 0 (inclusive) and 1 (exclusive).
+    *
+    * @return a random number
+    */
+    public double nextDouble() {
+        return random().nextDouble();
+    }
+
+   /**
+    * Shuffles the whole array.
+    *
+    * @param order  card indexes
+    */
+    public void shuffle(int[] order) {
+        shuffle(order, order.length);
+    }
+
+   /**
+    * Shuffles the first length elements of the array.
+    *
+    * @param order  card indexes
+    * @param length how many elements are shuffled
+    */
+    public void shuffle(int[] order, int length) {
+        RandomGenerator rng = random();
+        for (int i = length - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int temp = order[i];
+            order[i] = order[j];
+            order[j] = temp;
+        }
+    }
+
+   /**
+    * Draws cards with lazy Fisher-Yates steps and then undoes
+    * the steps, so the order is left as it was. This way the
+    * drawn cards depend only on the random numbers and not on
+    * the hands drawn before, and each draw is still O(count).
+    *
+    * @param order  card indexes
+    * @param cards  the array the drawn cards are stored in
+    * @param count  how many cards are drawn
+    */
+    public void drawCards(int[] order, int[] cards, int count) {
+        RandomGenerator rng = random();
+
+        // Draws the cards and records which positions were swapped
+        for (int i = 0; i < count; i++) {
+            int j = i + rng.nextInt(order.length - i);
+            int temp = order[j];
+            order[j] = order[i];
+            order[i] = temp;
+            cards[i] = j;
+        }
+
+        // Undoes the swaps in reverse order
+        for (int i = count - 1; i >= 0; i--) {
+            int j = cards[i];
+            cards[i] = order[i];
+            order[i] = order[j];
+            order[j] = cards[i];
+        }
+    }
+
+   /**
+    * Fills the first length elements of the
+    * array with indexes in ascending order.
+    *
+    * @param order  card indexes
+    * @param length how many elements are filled
+    */
+    public static void resetOrder(int[] order, int length) {
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+    }
+
+   /**
+    * Returns the generator to use in the current thread.
+    *
+    * @return a random number generator
+    */
+    private RandomGenerator random() {
+        return random != null ? random : ThreadLocalRandom.current();
+    }
+
+   /**
+    * Holds the factory of Xoshiro generators so that
+    * it is looked up only once and only if it is used.
+    */
+    private static class XoshiroFactory {
+        static final RandomGeneratorFactory<RandomGenerator> FACTORY =
+            RandomGeneratorFactory.of(XOSHIRO_ALGORITHM);
+    }
+}
@@ -0,0 +1,168 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Finds words which are spelled similarly to a given word.
+ *
+ * Each word is split into trigrams, the sequences of three
+ * characters in it. The word is padded with two spaces in
+ * front and one after, so "stealth" gives "  s", " st",
+ * "ste", ..., "th ". For each trigram, the index has a
+ * posting list of the words which contain it.
+ *
+ * A lookup walks the posting lists of the given word's
+ * trigrams and counts how many trigrams each word shares
+ * with it, so only words sharing trigrams are ever looked
+ * at. The words are ranked by the Dice coefficient of their
+ * trigrams, 2 * shared / (trigrams in both words), and words
+ * below the minimum similarity are left out.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class TrigramIndex {
+    public static final double DEFAULT_MIN_SIMILARITY = 0.5;
+
+    private final int[] trigramCounts;
+    private final Map<Long, Integer> trigramIds;
+    private final int[] postings;
+    private final int[] postingOffsets;
+
+   /**
+    * Class constructor. Indexes the given words.
+    * Case is ignored.
+    *
+    * @param words  the words
+    */
+    public TrigramIndex(String[] words) {
+        this.trigramCounts = new int[words.length];
+        this.trigramIds = new HashMap<Long, Integer>();
+
+        // Finds each word's distinct trigrams
+        long[][] wordTrigrams = new long[words.length][];
+        List<Integer> counts = new ArrayList<Integer>();
+        int postingAmount = 0;
+        for (int i = 0; i < words.length; i++) {
+            wordTrigrams[i] = trigrams(words[i]);
+            trigramCounts[i] = wordTrigrams[i].length;
+            postingAmount += wordTrigrams[i].length;
+            for (long trigram : wordTrigrams[i]) {
+                Integer id = trigramIds.get(trigram);
+                if (id == null) {
+                    trigramIds.put(trigram, counts.size());
+                    counts.add(1);
+                }
+                else {
+                    counts.set(id, counts.get(id) + 1);
+                }
+            }
+        }
+
+        // Lists the words of each trigram in ascending order
+        postingOffsets = new int[counts.size() + 1];
+        for (int i = 0; i < counts.size(); i++) {
+            postingOffsets[i + 1] = postingOffsets[i] + counts.get(i);
+        }
+        int[] next = Arrays.copyOf(postingOffsets, counts.size());
+        postings = new int[postingAmount];
+        for (int i = 0; i < words.length; i++) {
+            for (long trigram : wordTrigrams[i]) {
+                postings[next[trigramIds.get(trigram)]++] = i;
+            }
+        }
+    }
+
+   /**
+    * Finds the words most similar to the given word.
+    *
+    * @param word           a word
+    * @param maxResults     the maximum number of words returned
+    * @param minSimilarity  the lowest accepted similarity
+    *                       between 0 and 1
+    * @return the indexes of the similar words,
+    *         the most similar first
+    */
+    public int[] find(String word, int maxResults, double minSimilarity) {
+        long[] trigrams = trigrams(word);
+
+        // Counts the shared trigrams of the words in the posting lists
+        Map<Integer, Integer> shared = new HashMap<Integer, Integer>();
+        for (long trigram : trigrams) {
+            Integer id = trigramIds.get(trigram);
+            if (id != null) {
+                for (int i = postingOffsets[id]; i < postingOffsets[id + 1]; i++) {
+                    shared.merge(postings[i], 1, Integer::sum);
+                }
+            }
+        }
+
+        // Ranks the words which are similar enough
+        List<Integer> results = new ArrayList<Integer>();
+        Map<Integer, Double> similarities = new HashMap<Integer, Double>();
+        for (Map.Entry<Integer, Integer> entry : shared.entrySet()) {
+            int index = entry.getKey();
+            double similarity = 2.0 * entry.getValue() /
+                (trigrams.length + trigramCounts[index]);
+            if (similarity >= minSimilarity) {
+                results.add(index);
+                similarities.put(index, similarity);
+            }
+        }
+        results.sort((a, b) -> {
+            int order = Double.compare(similarities.get(b), similarities.get(a));
+            return order != 0 ? order : Integer.compare(a, b);
+        });
+
+        int[] found = new int[Math.min(maxResults, results.size())];
+        for (int i = 0; i < found.length; i++) {
+            found[i] = results.get(i);
+        }
+
+        return found;
+    }
+
+   /**
+    * Finds the word most similar to the given word.
+    *
+    * @param word   a word
+    * @return the index of the most similar word or -1
+    *         if no word is similar enough
+    */
+    public int findBest(String word) {
+        int[] found = find(word, 1, DEFAULT_MIN_SIMILARITY);
+        return found.length > 0 ? found[0] : -1;
+    }
+
+   /**
+    * Returns the distinct trigrams of a padded, lower case word.
+    * Each trigram's three characters are packed into a long.
+    *
+    * @param word   a word
+    * @return the trigrams
+    */
+    private static long[] trigrams(String word) {
+        String padded = "  " + word.toLowerCase(Locale.ROOT) + " ";
+        long[] trigrams = new long[padded.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) padded.charAt(i) << 32) |
+                          ((long) padded.charAt(i + 1) << 16) |
+                          padded.charAt(i + 2);
+        }
+
+        Arrays.sort(trigrams);
+        int distinct = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinct++] = trigrams[i];
+            }
+        }
+
+        return Arrays.copyOf(trigrams, distinct);
+    }
+}
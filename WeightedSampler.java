@@ -0,0 +1,254 @@
+import java.util.Arrays;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Draws cards in proportion to their weights without
+ * drawing the same card twice before the sampler is reset.
+ *
+ * Cards are picked from the deck's alias table in constant
+ * time or from dynamic weights in O(log n), and a card which
+ * has already been drawn is simply picked again. Each pick
+ * then has the same probabilities as picking among the cards
+ * not yet drawn. While the drawn cards have less than half of
+ * the total weight, a draw takes fewer than two picks on
+ * average. After that, or if the weights change so that the
+ * picks keep hitting drawn cards, a card is instead found in
+ * a Fenwick tree of the remaining cards' weights, which never
+ * has to pick again. The tree is built in O(n) the first time
+ * it's needed and then kept up to date in O(log n) per card,
+ * so draining the whole deck takes O(n log n). It's built
+ * again if the weights change. Cards with the weight 0 are
+ * never drawn, so once only they remain, nothing is drawn.
+ *
+ * The drawn cards are marked in a bit set, so a sampler
+ * takes one bit per card besides the shared weights
+ * until the tree of the remaining weights is built.
+ * A sampler is used by one thread at a time, but
+ * several samplers can share the same weights.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class WeightedSampler {
+    private static final double MAX_DRAWN_WEIGHT_SHARE = 0.5;
+    private static final int MAX_PICKS = 64;
+
+    private final CardWeights weights;
+    private final long[] drawn;
+    private final int highestStep;
+    private double drawnWeight;
+    private int drawnCount;
+    private double[] remaining;
+    private long remainingVersion;
+
+   /**
+    * Class constructor. The cards are picked
+    * from the deck's alias table.
+    *
+    * @param deck   the deck
+    */
+    public WeightedSampler(Deck deck) {
+        this(deck.getAliasTable());
+    }
+
+   /**
+    * Class constructor.
+    *
+    * @param weights    the cards' weights
+    */
+    public WeightedSampler(CardWeights weights) {
+        this.weights = weights;
+        this.drawn = new long[(weights.size() + 63) / 64];
+        this.highestStep = Integer.highestOneBit(weights.size());
+    }
+
+   /**
+    * Draws a card which hasn't been drawn yet.
+    *
+    * @param shuffler   the shuffler whose random numbers are used
+    * @return the card's index or Deck.NO_CARD if all cards
+    *         are drawn or the remaining cards have no weight
+    */
+    public int draw(Shuffler shuffler) {
+        if (drawnCount == weights.size()) {
+            return Deck.NO_CARD;
+        }
+
+        int card = Deck.NO_CARD;
+        double totalWeight = weights.getTotalWeight();
+        if (drawnWeight < totalWeight * MAX_DRAWN_WEIGHT_SHARE) {
+            for (int i = 0; i < MAX_PICKS && card == Deck.NO_CARD; i++) {
+                card = weights.sample(shuffler);
+                if (card != Deck.NO_CARD && isDrawn(card)) {
+                    card = Deck.NO_CARD;
+                }
+            }
+        }
+        if (card == Deck.NO_CARD) {
+            card = findRemaining(shuffler.nextDouble() *
+                                 Math.max(0, totalWeight - drawnWeight));
+        }
+
+        if (card != Deck.NO_CARD) {
+            markDrawn(card);
+        }
+        return card;
+    }
+
+   /**
+    * Draws cards and then returns them, so the sampler is
+    * left as it was. A hand drawn this way depends only on
+    * the random numbers and not on the hands drawn before.
+    * The hand ends in Deck.NO_CARD if it runs out of cards.
+    *
+    * @param shuffler   the shuffler whose random numbers are used
+    * @param cards      the array the drawn cards are stored in
+    * @param count      how many cards are drawn
+    */
+    public void drawHand(Shuffler shuffler, int[] cards, int count) {
+        for (int i = 0; i < count; i++) {
+            cards[i] = draw(shuffler);
+        }
+        for (int i = 0; i < count; i++) {
+            if (cards[i] != Deck.NO_CARD) {
+                drawn[cards[i] >>> 6] &= ~(1L << cards[i]);
+                double weight = weights.getWeight(cards[i]);
+                drawnWeight -= weight;
+                drawnCount--;
+                updateRemaining(cards[i], weight);
+            }
+        }
+
+        // The weights may have changed since the cards were drawn
+        if (drawnCount == 0) {
+            drawnWeight = 0;
+        }
+    }
+
+   /**
+    * Returns all cards to the deck.
+    */
+    public void reset() {
+        Arrays.fill(drawn, 0L);
+        drawnWeight = 0;
+        drawnCount = 0;
+        remaining = null;
+    }
+
+   /**
+    * Finds the card not yet drawn at which the sum of the
+    * remaining cards' weights exceeds the target by walking
+    * down the tree of the remaining weights like DynamicWeights.
+    *
+    * @param target     a number between 0 and the remaining weight
+    * @return the card's index or Deck.NO_CARD if
+    *         the remaining cards have no weight
+    */
+    private int findRemaining(double target) {
+        if (remaining == null || remainingVersion != weights.getVersion()) {
+            buildRemaining();
+        }
+
+        int card = 0;
+        for (int step = highestStep; step > 0; step >>= 1) {
+            int node = card + step;
+            if (node < remaining.length && remaining[node] <= target) {
+                card = node;
+                target -= remaining[node];
+            }
+        }
+
+        // Rounding errors can pass the last remaining card or
+        // stop at a card which has been drawn or has no weight
+        card = Math.min(card, weights.size() - 1);
+        int found = card;
+        while (found >= 0 && !isDrawable(found)) {
+            found--;
+        }
+        if (found < 0) {
+            found = card + 1;
+            while (found < weights.size() && !isDrawable(found)) {
+                found++;
+            }
+        }
+
+        return found < weights.size() ? found : Deck.NO_CARD;
+    }
+
+   /**
+    * Builds the Fenwick tree of the weights
+    * of the cards which haven't been drawn.
+    */
+    private void buildRemaining() {
+        int n = weights.size();
+        remainingVersion = weights.getVersion();
+        remaining = new double[n + 1];
+        for (int card = 0; card < n; card++) {
+            if (!isDrawn(card)) {
+                remaining[card + 1] = weights.getWeight(card);
+            }
+        }
+        for (int node = 1; node <= n; node++) {
+            int parent = node + (node & -node);
+            if (parent <= n) {
+                remaining[parent] += remaining[node];
+            }
+        }
+    }
+
+   /**
+    * Adds a card's weight to the tree of the remaining weights
+    * when the card is returned or subtracts it when the card is
+    * drawn. The tree is dropped if the weights have changed.
+    *
+    * @param card   a card's index
+    * @param change the change of the card's remaining weight
+    */
+    private void updateRemaining(int card, double change) {
+        if (remaining == null) {
+            return;
+        }
+        if (remainingVersion != weights.getVersion()) {
+            remaining = null;
+            return;
+        }
+
+        for (int node = card + 1; node < remaining.length; node += node & -node) {
+            remaining[node] += change;
+        }
+    }
+
+   /**
+    * Checks whether a card has been drawn.
+    *
+    * @param card   a card's index
+    * @return has the card been drawn
+    */
+    private boolean isDrawn(int card) {
+        return (drawn[card >>> 6] & (1L << card)) != 0;
+    }
+
+   /**
+    * Checks whether a card can still be drawn.
+    *
+    * @param card   a card's index
+    * @return is the card not drawn yet and has weight
+    */
+    private boolean isDrawable(int card) {
+        return !isDrawn(card) && weights.getWeight(card) > 0;
+    }
+
+   /**
+    * Marks a card drawn.
+    *
+    * @param card   a card's index
+    */
+    private void markDrawn(int card) {
+        drawn[card >>> 6] |= 1L << card;
+        double weight = weights.getWeight(card);
+        drawnWeight += weight;
+        drawnCount++;
+        updateRemaining(card, -weight);
+    }
+}
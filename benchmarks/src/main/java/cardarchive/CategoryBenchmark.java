@@ -0,0 +1,71 @@
+package cardarchive;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Measures finding a category by the name given in
+ * command line: a full name, the first three letters
+ * and a misspelled name which is only found by
+ * its trigrams. The number of cards doesn't affect
+ * the lookups, so only the built-in deck is used.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryBenchmark {
+    @Param({"Navigation", "nav", "nvaigation"})
+    public String name;
+
+    private CategoryIndex index;
+
+   /**
+    * Loads the built-in deck.
+    *
+    * @throws IOException if the deck can't be loaded
+    */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        index = DeckState.createDeck(DeckState.BUILT_IN).getCategoryIndex();
+    }
+
+   /**
+    * Finds the category by its full name or its first three letters.
+    *
+    * @return the category's index
+    */
+    @Benchmark
+    public int find() {
+        return index.find(name);
+    }
+
+   /**
+    * Finds the category whose name is the most similar.
+    *
+    * @return the category's index
+    */
+    @Benchmark
+    public int findSimilar() {
+        return index.findSimilar(name);
+    }
+}
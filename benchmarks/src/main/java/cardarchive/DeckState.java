@@ -0,0 +1,180 @@
+package cardarchive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * The deck the benchmarks draw from.
+ *
+ * "en" is the built-in English deck. A number creates
+ * a synthetic deck with that many cards. It has the
+ * built-in deck's categories in the same proportions,
+ * and its cards reuse the names of the built-in cards.
+ * The synthetic deck is written as a card file and
+ * loaded with DeckLoader like any other deck.
+ *
+ * The weighted benchmarks give the same cards random
+ * weights with withRandomWeights.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+@State(Scope.Benchmark)
+public class DeckState {
+    public static final String BUILT_IN = "en";
+    private static final String BUILT_IN_DECK = "decks/en.txt";
+    private static final int BYTES_PER_CARD = 32;
+    private static final int MAX_WEIGHT = 10;
+    private static final int WILD_CARD_INTERVAL = 100;
+    private static final int WILD_CARD_WEIGHT = 100;
+
+    @Param({BUILT_IN, "10000", "1000000", "10000000"})
+    public String deckSize;
+
+    public Deck deck;
+
+   /**
+    * Creates the deck.
+    *
+    * @throws IOException if the built-in deck can't be loaded
+    */
+    @Setup(Level.Trial)
+    public void createDeck() throws IOException {
+        deck = createDeck(deckSize);
+    }
+
+   /**
+    * Creates the built-in deck or a synthetic deck.
+    *
+    * @param deckSize   "en" or the number of cards
+    * @return the deck
+    * @throws IOException if the built-in deck can't be loaded
+    */
+    public static Deck createDeck(String deckSize) throws IOException {
+        if (deckSize.equals(BUILT_IN)) {
+            return new DeckLoader().load(BUILT_IN_DECK);
+        }
+
+        return new DeckLoader().load(cardFile(deckSize));
+    }
+
+   /**
+    * Gets the contents of the built-in card file
+    * or writes a synthetic card file.
+    *
+    * @param deckSize   "en" or the number of cards
+    * @return the card file's contents
+    * @throws IOException if the built-in deck can't be loaded
+    */
+    public static byte[] cardFile(String deckSize) throws IOException {
+        if (deckSize.equals(BUILT_IN)) {
+            try (InputStream in = DeckState.class.getClassLoader()
+                    .getResourceAsStream(BUILT_IN_DECK)) {
+                if (in == null) {
+                    throw new IOException("Card file not found: " + BUILT_IN_DECK);
+                }
+                return in.readAllBytes();
+            }
+        }
+
+        Deck builtIn = new DeckLoader().load(BUILT_IN_DECK);
+        return syntheticCardFile(builtIn, Integer.parseInt(deckSize));
+    }
+
+   /**
+    * Writes a card file which has the given number of
+    * cards in the categories of the given deck.
+    *
+    * @param model      the deck whose categories and names are used
+    * @param cardCount  the number of cards
+    * @return the card file's contents
+    */
+    private static byte[] syntheticCardFile(Deck model, int cardCount) {
+        ByteArrayOutputStream text = new ByteArrayOutputStream(cardCount * BYTES_PER_CARD);
+        write(text, "@cards " + cardCount + "\n");
+
+        int written = 0;
+        for (int c = 0; c < model.getCategoryCount(); c++) {
+            int size = model.getCategorySize(c);
+            int first = model.getCategoryFirstCardIndex(c);
+
+            // The last category gets the cards left over from rounding
+            int cards = c < model.getCategoryCount() - 1
+                ? (int) ((long) cardCount * size / model.size())
+                : cardCount - written;
+            write(text, "[" + c + "] " + model.getCategoryName(c) + "\n");
+
+            byte[] name = new byte[0];
+            for (int i = 0; i < cards && size > 0; i++) {
+                int card = first + i % size;
+                if (name.length < model.getNameLength(card)) {
+                    name = new byte[model.getNameLength(card)];
+                }
+                model.copyName(card, name, 0);
+                text.write(name, 0, model.getNameLength(card));
+                write(text, i < size ? "\n" : " " + (i / size + 1) + "\n");
+            }
+            written += cards;
+        }
+
+        return text.toByteArray();
+    }
+
+   /**
+    * Creates a deck with the same cards as the given deck
+    * and random weights. Most cards get a weight between 1
+    * and 10, and every hundredth card is a "wild" card with
+    * the weight 100. The deck is written as a card file and
+    * loaded with DeckLoader like the synthetic decks.
+    *
+    * @param model  the deck whose cards are used
+    * @param seed   the seed of the weights
+    * @return the weighted deck
+    * @throws IOException if the card file is invalid
+    */
+    public static Deck withRandomWeights(Deck model, long seed) throws IOException {
+        SplittableRandom random = new SplittableRandom(seed);
+        ByteArrayOutputStream text = new ByteArrayOutputStream(model.size() * BYTES_PER_CARD);
+        write(text, "@cards " + model.size() + "\n");
+
+        byte[] name = new byte[0];
+        for (int c = 0; c < model.getCategoryCount(); c++) {
+            write(text, "[" + c + "] " + model.getCategoryName(c) + "\n");
+            int first = model.getCategoryFirstCardIndex(c);
+            for (int card = first; card < first + model.getCategorySize(c); card++) {
+                if (name.length < model.getNameLength(card)) {
+                    name = new byte[model.getNameLength(card)];
+                }
+                model.copyName(card, name, 0);
+                text.write(name, 0, model.getNameLength(card));
+
+                int weight = card % WILD_CARD_INTERVAL == 0
+                    ? WILD_CARD_WEIGHT
+                    : 1 + random.nextInt(MAX_WEIGHT);
+                write(text, " @" + weight + "\n");
+            }
+        }
+
+        return new DeckLoader().load(text.toByteArray());
+    }
+
+   /**
+    * Writes text as UTF-8.
+    *
+    * @param out    the output
+    * @param text   the text
+    */
+    private static void write(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
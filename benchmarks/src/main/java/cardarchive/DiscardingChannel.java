@@ -0,0 +1,39 @@
+package cardarchive;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * A channel which discards everything written to it,
+ * so that the benchmarks measure composing and encoding
+ * the printed cards and not the terminal.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class DiscardingChannel implements WritableByteChannel {
+
+   /**
+    * Discards the bytes.
+    *
+    * @param src    the bytes
+    * @return the number of bytes
+    */
+    @Override
+    public int write(ByteBuffer src) {
+        int written = src.remaining();
+        src.position(src.limit());
+        return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return true;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,95 @@
+package cardarchive;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Measures shuffling the deck and drawing hands from it.
+ *
+ * shuffleDeck shuffles the whole card order like the
+ * program does when the deck isn't shuffled lazily.
+ * drawHands draws hands with lazy Fisher-Yates steps
+ * and restores the order after each hand like the
+ * parallel generation does, so its cost shouldn't
+ * depend on the deck's size. sessionHand creates a
+ * DrawSession with a lazy order and draws one hand from
+ * it, which shouldn't depend on the deck's size either.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DrawBenchmark {
+    private static final long SEED = 42L;
+
+    private Shuffler shuffler;
+    private int[] order;
+    private Engine engine;
+
+   /**
+    * Creates the shuffler and the card order.
+    *
+    * @param decks  the deck
+    */
+    @Setup(Level.Trial)
+    public void setUp(DeckState decks) {
+        shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, SEED);
+        order = new int[decks.deck.size()];
+        Shuffler.resetOrder(order, order.length);
+        engine = new Engine(decks.deck);
+    }
+
+   /**
+    * Shuffles the whole deck.
+    *
+    * @return the first card so that the shuffle isn't optimized away
+    */
+    @Benchmark
+    public int shuffleDeck() {
+        shuffler.shuffle(order);
+        return order[0];
+    }
+
+   /**
+    * Draws hands of the given shape.
+    *
+    * @param shape  the number of hands and cards in a hand
+    * @return the last drawn card
+    */
+    @Benchmark
+    public int drawHands(HandShape shape) {
+        for (int i = 0; i < shape.hands; i++) {
+            shuffler.drawCards(order, shape.cards, shape.cardsInHand);
+        }
+        return shape.cards[shape.cardsInHand - 1];
+    }
+
+   /**
+    * Creates a session and draws one hand of the given shape.
+    *
+    * @param shape  the number of cards in a hand
+    * @return the number of drawn cards
+    */
+    @Benchmark
+    public int sessionHand(HandShape shape) {
+        DrawSession session = engine.newSession(shuffler, true);
+        return session.drawHand(shape.cards, shape.cardsInHand);
+    }
+}
@@ -0,0 +1,92 @@
+package cardarchive;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Measures printing hands and category listings, which is
+ * what the program does for every printed card: draw, look
+ * up the category's label, format the index and encode the
+ * name. The printer discards the encoded output.
+ *
+ * printHands draws independent hands the way the parallel
+ * generation and the server do. listCategory prints the
+ * cards of the deck's largest category.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class HandBenchmark {
+    private static final long SEED = 42L;
+
+    private Deck deck;
+    private HandGenerator generator;
+    private Shuffler shuffler;
+    private long nextHand;
+    private int largestCategory;
+    private CardPrinter printer;
+
+   /**
+    * Creates the hand generator and finds the largest category.
+    *
+    * @param decks  the deck
+    */
+    @Setup(Level.Trial)
+    public void setUp(DeckState decks) {
+        deck = decks.deck;
+        generator = new HandGenerator(deck, true, null);
+        shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, SEED);
+        printer = new CardPrinter(new DiscardingChannel(), StandardCharsets.UTF_8, false);
+        for (int i = 1; i < deck.getCategoryCount(); i++) {
+            if (deck.getCategorySize(i) > deck.getCategorySize(largestCategory)) {
+                largestCategory = i;
+            }
+        }
+    }
+
+   /**
+    * Draws and prints hands of the given shape.
+    *
+    * @param shape  the number of hands and cards in a hand
+    */
+    @Benchmark
+    public void printHands(HandShape shape) {
+        generator.printHands(nextHand, shape.hands, shape.cardsInHand, shuffler, printer);
+        printer.flush();
+        nextHand += shape.hands;
+    }
+
+   /**
+    * Prints the cards of the largest category.
+    */
+    @Benchmark
+    public void listCategory() {
+        int first = deck.getCategoryFirstCardIndex(largestCategory);
+        int count = deck.getCategorySize(largestCategory);
+        int indexWidth = CardPrinter.indexWidth(count);
+        for (int i = 0; i < count; i++) {
+            printer.printCard(i, indexWidth, deck, first + i, true);
+        }
+        printer.endHand();
+        printer.flush();
+    }
+}
@@ -0,0 +1,40 @@
+package cardarchive;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * How many hands are drawn at a time and how many
+ * cards there are in each, written as "hands x cards".
+ * The shapes cover a single hand, many small hands and
+ * a few large hands.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+@State(Scope.Benchmark)
+public class HandShape {
+    @Param({"1x5", "100x5", "10x50"})
+    public String shape;
+
+    public int hands;
+    public int cardsInHand;
+    public int[] cards;
+
+   /**
+    * Parses the shape and creates the
+    * array the drawn cards are stored in.
+    */
+    @Setup(Level.Trial)
+    public void parseShape() {
+        int separator = shape.indexOf('x');
+        hands = Integer.parseInt(shape.substring(0, separator));
+        cardsInHand = Integer.parseInt(shape.substring(separator + 1));
+        cards = new int[cardsInHand];
+    }
+}
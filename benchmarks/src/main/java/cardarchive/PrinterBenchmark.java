@@ -0,0 +1,162 @@
+package cardarchive;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Measures formatting the cards' indexes and encoding the
+ * printed cards. legacyFormatCardIndex is a copy of how the
+ * printer formatted an index before appendCardIndex: it
+ * counts the digits with division loops and concatenates a
+ * new string for every space. appendCardIndex writes the
+ * index into a reused buffer and shouldn't allocate anything.
+ *
+ * printAllCards prints every card of the built-in deck,
+ * which has names with Scandinavian letters. In UTF-8 the
+ * names are copied to the output as bytes; in ISO-8859-1
+ * they are decoded and encoded through the charset's
+ * encoder. The printer discards the encoded output.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrinterBenchmark {
+
+   /**
+    * Formats one card index the way the printer did before
+    * appendCardIndex. The indexes go through all numbers
+    * up to the last index.
+    *
+    * @param indexes    the last index and the current one
+    * @return the formatted index
+    */
+    @Benchmark
+    public String legacyFormatCardIndex(IndexRange indexes) {
+        int cardIndex = indexes.next();
+        int maxIndex = indexes.maxIndex;
+        String formattedCardIndex = "";
+
+        // Presented list numbering starts from 1
+        cardIndex++;
+
+        int figuresInCardIndex = 1;
+        for (int i = cardIndex; i / 10 >= 1; i = i / 10) {
+            figuresInCardIndex++;
+        }
+
+        int figuresInMaxIndex = 1;
+        for (int j = maxIndex; j / 10 >= 1; j = j / 10) {
+            figuresInMaxIndex++;
+        }
+
+        for (int k = figuresInCardIndex; k < figuresInMaxIndex; k++) {
+            formattedCardIndex += " ";
+        }
+
+        formattedCardIndex += cardIndex + " - ";
+
+        return formattedCardIndex;
+    }
+
+   /**
+    * Writes one padded card index into a reused buffer.
+    *
+    * @param indexes    the last index and the current one
+    * @return the buffer
+    */
+    @Benchmark
+    public StringBuilder appendCardIndex(IndexRange indexes) {
+        indexes.line.setLength(0);
+        CardPrinter.appendCardIndex(indexes.line, indexes.next(), indexes.width);
+        return indexes.line;
+    }
+
+   /**
+    * Prints every card of the built-in deck.
+    *
+    * @param output the deck and the printer
+    */
+    @Benchmark
+    public void printAllCards(Output output) {
+        Deck deck = output.deck;
+        int indexWidth = CardPrinter.indexWidth(deck.size());
+        for (int i = 0; i < deck.size(); i++) {
+            output.printer.printCard(i, indexWidth, deck, i, true);
+        }
+        output.printer.endHand();
+        output.printer.flush();
+    }
+
+   /**
+    * The indexes of a list whose last index has
+    * one, three or seven digits.
+    */
+    @State(Scope.Thread)
+    public static class IndexRange {
+        @Param({"9", "999", "9999999"})
+        public int maxIndex;
+
+        private int cardIndex;
+        private int width;
+        private StringBuilder line;
+
+       /**
+        * Computes the width of the indexes
+        * and creates the reused buffer.
+        */
+        @Setup(Level.Trial)
+        public void setUp() {
+            width = CardPrinter.indexWidth(maxIndex);
+            line = new StringBuilder();
+        }
+
+        int next() {
+            cardIndex = cardIndex < maxIndex - 1 ? cardIndex + 1 : 0;
+            return cardIndex;
+        }
+    }
+
+   /**
+    * The built-in deck and a printer which
+    * discards its output in the given charset.
+    */
+    @State(Scope.Thread)
+    public static class Output {
+        @Param({"UTF-8", "ISO-8859-1"})
+        public String charset;
+
+        private Deck deck;
+        private CardPrinter printer;
+
+       /**
+        * Loads the deck and creates the printer.
+        *
+        * @throws IOException if the deck can't be loaded
+        */
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            deck = DeckState.createDeck(DeckState.BUILT_IN);
+            printer = new CardPrinter(new DiscardingChannel(), Charset.forName(charset), false);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package cardarchive;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Compares the Fisher-Yates shuffler with the original
+ * shuffle, which swapped every card in a list of objects
+ * with a card picked by Math.random().
+ *
+ * legacyShuffle doesn't depend on the generator, so
+ * its results are the same for every "random" value.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ShuffleBenchmark {
+    private static final long SEED = 42L;
+
+    @Param({"splittable", "xoshiro", "threadlocal"})
+    public String random;
+
+    private Shuffler shuffler;
+    private int[] order;
+    private List<Object> cards;
+
+   /**
+    * Creates the shuffler, the card order and
+    * the list of objects the original shuffle swaps.
+    *
+    * @param decks  the deck
+    */
+    @Setup(Level.Trial)
+    public void setUp(DeckState decks) {
+        Shuffler.Generator generator = Shuffler.Generator.forOptionName(random);
+        shuffler = generator == Shuffler.Generator.THREAD_LOCAL
+            ? new Shuffler(generator)
+            : new Shuffler(generator, SEED);
+
+        int deckSize = decks.deck.size();
+        order = new int[deckSize];
+        Shuffler.resetOrder(order, deckSize);
+        cards = new ArrayList<Object>(deckSize);
+        for (int i = 0; i < deckSize; i++) {
+            cards.add(new Object());
+        }
+    }
+
+   /**
+    * Shuffles the card order with the Fisher-Yates shuffler.
+    *
+    * @return the first card so that the shuffle isn't optimized away
+    */
+    @Benchmark
+    public int shuffle() {
+        shuffler.shuffle(order);
+        return order[0];
+    }
+
+   /**
+    * Shuffles the list the way CardArchive did before the Shuffler.
+    *
+    * @return the first card so that the shuffle isn't optimized away
+    */
+    @Benchmark
+    public Object legacyShuffle() {
+        double rand;
+        Object temp;
+        for (int i = 0; i < cards.size(); i++) {
+            rand = Math.random();
+            int randCardIndex = (int) (rand * cards.size());
+            temp = cards.get(randCardIndex);
+            cards.set(randCardIndex, cards.get(i));
+            cards.set(i, temp);
+        }
+        return cards.get(0);
+    }
+}
@@ -0,0 +1,136 @@
+package cardarchive;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Measures what the program does when it starts: loading
+ * a card file with DeckLoader, opening a compiled card file
+ * and turning it into a deck, and initializing the classes
+ * the program needs to print the deck's stats.
+ *
+ * Each fork measures a single cold call without warmup, so
+ * the results show the first call in a new JVM rather than
+ * a compiled loop. The card files are written in the fork's
+ * setup, which also loads the deck classes, so initClasses
+ * is the only benchmark which includes loading classes.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 10, jvmArgsAppend = "-Xmx4g")
+public class StartupBenchmark {
+    private static final String[] PROGRAM_CLASSES = {
+        "cardarchive.CardArchive", "cardarchive.RunOptions", "cardarchive.Language",
+        "cardarchive.DeckLoader", "cardarchive.Deck", "cardarchive.Engine",
+        "cardarchive.Shuffler", "cardarchive.CardPrinter"
+    };
+
+   /**
+    * A deck written as a card file and as a compiled card file.
+    */
+    @State(Scope.Benchmark)
+    public static class DeckFiles {
+        @Param({DeckState.BUILT_IN, "10000", "1000000", "10000000"})
+        public String deckSize;
+
+        private Path folder;
+        private String textFile;
+        private File binaryFile;
+
+       /**
+        * Writes the card files into a temporary folder.
+        *
+        * @throws IOException if the files can't be written
+        */
+        @Setup(Level.Trial)
+        public void writeFiles() throws IOException {
+            folder = Files.createTempDirectory("card-archive-startup");
+            byte[] text = DeckState.cardFile(deckSize);
+            Path textPath = Files.write(folder.resolve("deck.txt"), text);
+            textFile = textPath.toString();
+
+            binaryFile = folder.resolve("deck" + BinaryDeck.FILE_EXTENSION).toFile();
+            DeckCompiler.compile(new DeckLoader().load(text), binaryFile.getPath());
+
+            // Checks the compiled file, which also loads
+            // BinaryDeck like the text deck loads DeckLoader
+            new BinaryDeck(binaryFile).toDeck();
+        }
+
+       /**
+        * Deletes the card files and their folder.
+        *
+        * @throws IOException if the files can't be deleted
+        */
+        @TearDown(Level.Trial)
+        public void deleteFiles() throws IOException {
+            Files.deleteIfExists(Path.of(textFile));
+            Files.deleteIfExists(binaryFile.toPath());
+            Files.deleteIfExists(folder);
+        }
+    }
+
+   /**
+    * Loads the deck from the card file.
+    *
+    * @param files  the card files
+    * @return the deck
+    * @throws IOException if the card file is invalid
+    */
+    @Benchmark
+    public Deck loadTextDeck(DeckFiles files) throws IOException {
+        return new DeckLoader().load(files.textFile);
+    }
+
+   /**
+    * Maps the compiled card file to memory
+    * and turns it into a deck.
+    *
+    * @param files  the card files
+    * @return the deck
+    * @throws IOException if the card file is invalid
+    */
+    @Benchmark
+    public Deck openBinaryDeck(DeckFiles files) throws IOException {
+        return new BinaryDeck(files.binaryFile).toDeck();
+    }
+
+   /**
+    * Loads and initializes the classes the program
+    * needs to print the deck's stats.
+    *
+    * @return the classes
+    * @throws ClassNotFoundException if a class is missing
+    */
+    @Benchmark
+    public Class<?>[] initClasses() throws ClassNotFoundException {
+        Class<?>[] classes = new Class<?>[PROGRAM_CLASSES.length];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = Class.forName(PROGRAM_CLASSES[i]);
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,151 @@
+package cardarchive;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Measures drawing hands in proportion to the cards' weights.
+ *
+ * aliasHand draws a hand with WeightedSampler, which picks
+ * the cards from the deck's alias table, so its cost shouldn't
+ * depend on the deck's size. cumulativeSumHand draws the same
+ * kind of hand the naive way by summing the weights of the
+ * cards not yet drawn until a random point is reached, which
+ * takes O(n) per card. buildAliasTable measures building the
+ * alias table, which is done once per deck. dynamicHand draws
+ * the hand from the Fenwick tree of DynamicWeights in O(log n)
+ * per card. updateWeight changes one weight in it in place,
+ * which takes O(log n) under the weights' write lock.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class WeightedBenchmark {
+    private static final long SEED = 42L;
+    private static final int CARDS_IN_HAND = 5;
+
+    private Deck deck;
+    private Shuffler shuffler;
+    private WeightedSampler sampler;
+    private DynamicWeights dynamicWeights;
+    private WeightedSampler dynamicSampler;
+    private boolean[] drawn;
+    private double totalWeight;
+    private int[] hand;
+
+   /**
+    * Creates the weighted deck, its alias table and the sampler.
+    *
+    * @param decks  the deck whose cards are weighted
+    * @throws IOException if the weighted deck can't be created
+    */
+    @Setup(Level.Trial)
+    public void setUp(DeckState decks) throws IOException {
+        deck = DeckState.withRandomWeights(decks.deck, SEED);
+        shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, SEED);
+        sampler = new WeightedSampler(deck);
+        dynamicWeights = new DynamicWeights(deck);
+        dynamicSampler = new WeightedSampler(dynamicWeights);
+        drawn = new boolean[deck.size()];
+        totalWeight = deck.getTotalWeight();
+        hand = new int[CARDS_IN_HAND];
+    }
+
+   /**
+    * Draws a hand from the alias table.
+    *
+    * @return the last drawn card
+    */
+    @Benchmark
+    public int aliasHand() {
+        sampler.drawHand(shuffler, hand, CARDS_IN_HAND);
+        return hand[CARDS_IN_HAND - 1];
+    }
+
+   /**
+    * Draws a hand by summing the remaining cards' weights.
+    *
+    * @return the last drawn card
+    */
+    @Benchmark
+    public int cumulativeSumHand() {
+        double drawnWeight = 0;
+        for (int i = 0; i < CARDS_IN_HAND; i++) {
+            double target = shuffler.nextDouble() * (totalWeight - drawnWeight);
+            double sum = 0;
+            int card = 0;
+            for (int c = 0; c < drawn.length; c++) {
+                if (!drawn[c]) {
+                    card = c;
+                    sum += deck.getWeight(c);
+                    if (sum > target) {
+                        break;
+                    }
+                }
+            }
+
+            hand[i] = card;
+            drawn[card] = true;
+            drawnWeight += deck.getWeight(card);
+        }
+
+        for (int i = 0; i < CARDS_IN_HAND; i++) {
+            drawn[hand[i]] = false;
+        }
+        return hand[CARDS_IN_HAND - 1];
+    }
+
+   /**
+    * Draws a hand from the dynamic weights.
+    *
+    * @return the last drawn card
+    */
+    @Benchmark
+    public int dynamicHand() {
+        dynamicSampler.drawHand(shuffler, hand, CARDS_IN_HAND);
+        return hand[CARDS_IN_HAND - 1];
+    }
+
+   /**
+    * Changes the weight of a random card to its deck weight
+    * multiplied by a random factor between 0.5 and 1.5, so
+    * the weights stay near their original values.
+    *
+    * @return the changed card
+    */
+    @Benchmark
+    public int updateWeight() {
+        int card = shuffler.nextInt(deck.size());
+        dynamicWeights.setWeight(card, deck.getWeight(card) * (0.5 + shuffler.nextDouble()));
+        return card;
+    }
+
+   /**
+    * Builds the alias table of the deck.
+    *
+    * @return the table
+    */
+    @Benchmark
+    public AliasTable buildAliasTable() {
+        return new AliasTable(deck);
+    }
+}
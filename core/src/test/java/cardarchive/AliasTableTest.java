@@ -0,0 +1,55 @@
+package cardarchive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Checks that an alias table picks the cards
+ * in proportion to their weights.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class AliasTableTest {
+    private static final String DECK =
+        "@cards 4\n" +
+        "[0] Combat\n" +
+        "Boss fights @1\n" +
+        "Dodging @2\n" +
+        "[1] Items\n" +
+        "Keys @3\n" +
+        "Potions @4\n";
+    private static final int SAMPLES = 200_000;
+    private static final double TOLERANCE = 0.01;
+
+    @Test
+    public void picksCardsInProportionToWeights() throws IOException {
+        Deck deck = new DeckLoader().load(DECK.getBytes(StandardCharsets.UTF_8));
+        AliasTable table = new AliasTable(deck);
+        assertEquals(10.0, table.getTotalWeight(), 1e-9);
+
+        Shuffler shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, 7);
+        int[] counts = new int[deck.size()];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[table.sample(shuffler)]++;
+        }
+
+        double[] expected = {0.1, 0.2, 0.3, 0.4};
+        for (int card = 0; card < expected.length; card++) {
+            assertEquals(expected[card], (double) counts[card] / SAMPLES, TOLERANCE,
+                         "card " + card);
+        }
+    }
+
+    @Test
+    public void picksNothingFromEmptyDeck() {
+        AliasTable table = new AliasTable(Deck.empty());
+        assertEquals(Deck.NO_CARD,
+                     table.sample(new Shuffler(Shuffler.Generator.SPLITTABLE, 7)));
+    }
+}
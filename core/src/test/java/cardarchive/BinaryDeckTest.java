@@ -0,0 +1,133 @@
+package cardarchive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Compiles card files with DeckCompiler, loads them back
+ * as binary decks and compares them with the text decks.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class BinaryDeckTest {
+    private static final String DECK =
+        "@cards 4\n" +
+        "[0] Combat\n" +
+        "Boss fights @2.5\n" +
+        "Väistely\n" +
+        "[1] Empty\n" +
+        "[3] Items after a gap\n" +
+        "Keys @0.5\n" +
+        "Potions\n";
+
+    @TempDir
+    Path folder;
+
+    @Test
+    public void loadsCompiledDeckWithEmptyCategories() throws IOException {
+        Deck text = load(DECK);
+        Deck binary = new DeckLoader().load(compile(text).toString());
+        assertSameDeck(text, binary);
+
+        assertEquals(0, binary.getCategorySize(1));
+        assertEquals(-1, binary.getCategoryFirstCardIndex(1));
+        assertEquals(0, binary.getCategorySize(2));
+    }
+
+    @Test
+    public void loadsCompiledBuiltInDeck() throws IOException {
+        Deck text = new DeckLoader().load("decks/en.txt");
+        assertSameDeck(text, new DeckLoader().load(compile(text).toString()));
+    }
+
+    @Test
+    public void rejectsDecreasingNameOffset() throws IOException {
+        Deck text = load(DECK);
+        Path file = compile(text);
+
+        // The offset index starts after the header, the category
+        // table, the cards' categories and the cards' weights
+        long offsetIndex = BinaryDeck.HEADER_SIZE + 8L * text.getCategoryCount() +
+                           8L * text.size();
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(offsetIndex + 4L * (text.getCategoryCount() + 1));
+            raf.writeInt(0);
+        }
+
+        IOException e = assertThrows(IOException.class,
+            () -> new DeckLoader().load(file.toString()));
+        assertTrue(e.getMessage().endsWith("invalid name offset"), e.getMessage());
+    }
+
+    @Test
+    public void rejectsNameOffsetOutsidePool() throws IOException {
+        Deck text = load(DECK);
+        Path file = compile(text);
+        long offsetIndex = BinaryDeck.HEADER_SIZE + 8L * text.getCategoryCount() +
+                           8L * text.size();
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.seek(offsetIndex + 4L * text.getCategoryCount());
+            raf.writeInt(Integer.MAX_VALUE);
+        }
+
+        assertThrows(IOException.class, () -> new DeckLoader().load(file.toString()));
+    }
+
+   /**
+    * Loads a deck from a card file's contents.
+    *
+    * @param text   the card file's contents
+    * @return the deck
+    * @throws IOException if the card file is invalid
+    */
+    private static Deck load(String text) throws IOException {
+        return new DeckLoader().load(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+   /**
+    * Compiles a deck into a binary card file in the temporary folder.
+    *
+    * @param deck   the deck
+    * @return the binary card file's path
+    * @throws IOException if the file can't be written
+    */
+    private Path compile(Deck deck) throws IOException {
+        Path file = folder.resolve("deck" + BinaryDeck.FILE_EXTENSION);
+        DeckCompiler.compile(deck, file.toString());
+        return file;
+    }
+
+   /**
+    * Checks that two decks have the same cards and categories.
+    *
+    * @param expected   the text deck
+    * @param actual     the binary deck
+    */
+    private static void assertSameDeck(Deck expected, Deck actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.getCategoryCount(), actual.getCategoryCount());
+        for (int i = 0; i < expected.getCategoryCount(); i++) {
+            assertEquals(expected.getCategoryName(i), actual.getCategoryName(i));
+            assertEquals(expected.getCategorySize(i), actual.getCategorySize(i));
+            assertEquals(expected.getCategoryFirstCardIndex(i),
+                         actual.getCategoryFirstCardIndex(i));
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getName(i), actual.getName(i));
+            assertEquals(expected.getCategory(i), actual.getCategory(i));
+            assertEquals(expected.getWeight(i), actual.getWeight(i));
+        }
+        assertEquals(expected.getTotalWeight(), actual.getTotalWeight());
+    }
+}
@@ -0,0 +1,104 @@
+package cardarchive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Checks that hands drawn by a category quota have
+ * the given number of cards from each category.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class CategoryQuotaTest {
+    private static final String DECK =
+        "@cards 8\n" +
+        "[0] Combat\n" +
+        "Boss fights\n" +
+        "Dodging\n" +
+        "Parrying\n" +
+        "[1] Empty\n" +
+        "[2] Items\n" +
+        "Keys\n" +
+        "Potions\n" +
+        "[3] World\n" +
+        "Caves\n" +
+        "Forests\n" +
+        "Islands\n";
+    private static final int HANDS = 1000;
+
+    private Deck deck;
+    private Shuffler shuffler;
+
+    @BeforeEach
+    public void loadDeck() throws IOException {
+        deck = new DeckLoader().load(DECK.getBytes(StandardCharsets.UTF_8));
+        shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, 7);
+    }
+
+    @Test
+    public void drawsGivenCountFromEachCategory() {
+        CategoryQuota quota = CategoryQuota.parse(deck, "world:1, combat:2, items");
+        assertEquals(4, quota.getCardCount());
+        assertHands(quota, 3, 0, 0, 2);
+    }
+
+    @Test
+    public void addsCountsOfSameCategory() {
+        CategoryQuota quota = CategoryQuota.parse(deck, "com:1,items:2,combat:2");
+        assertEquals(5, quota.getCardCount());
+        assertHands(quota, 0, 0, 0, 2, 2);
+    }
+
+    @Test
+    public void drawsOneCardFromEachCategoryWithCards() {
+        CategoryQuota quota = CategoryQuota.oneOfEach(deck);
+        assertEquals(3, quota.getCardCount());
+        assertHands(quota, 0, 2, 3);
+    }
+
+    @Test
+    public void rejectsInvalidParts() {
+        String[] quotas = {"dragons:1", "combat:0", "combat:x", "items:3", "combat:2,com:2", "empty"};
+        String[] parts = {"dragons:1", "combat:0", "combat:x", "items:3", "com:2", "empty"};
+        for (int i = 0; i < quotas.length; i++) {
+            String quota = quotas[i];
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> CategoryQuota.parse(deck, quota));
+            assertEquals(parts[i], e.getMessage());
+        }
+    }
+
+   /**
+    * Draws hands by a quota and checks that the cards are
+    * distinct and in the expected categories and that
+    * the card order is left as it was.
+    *
+    * @param quota          the quota
+    * @param categories     the expected category of each card in a hand
+    */
+    private void assertHands(CategoryQuota quota, int... categories) {
+        int[] order = new int[deck.size()];
+        Shuffler.resetOrder(order, order.length);
+        int[] unshuffled = order.clone();
+        int[] hand = new int[quota.getCardCount()];
+
+        for (int i = 0; i < HANDS; i++) {
+            quota.drawCards(shuffler.forHand(i), order, hand);
+            int[] handCategories = Arrays.stream(hand).map(deck::getCategory).toArray();
+
+            assertArrayEquals(categories, handCategories);
+            assertEquals(hand.length, Arrays.stream(hand).distinct().count());
+            assertArrayEquals(unshuffled, order);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package cardarchive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Checks that dynamic weights pick the cards in proportion
+ * to their current weights, also while they change.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class DynamicWeightsTest {
+    private static final String DECK =
+        "@cards 4\n" +
+        "[0] Combat\n" +
+        "Boss fights @1\n" +
+        "Dodging @2\n" +
+        "[1] Items\n" +
+        "Keys @3\n" +
+        "Potions @4\n";
+    private static final int SAMPLES = 200_000;
+    private static final double TOLERANCE = 0.01;
+
+    private DynamicWeights weights;
+    private Shuffler shuffler;
+
+    @BeforeEach
+    public void createWeights() throws IOException {
+        Deck deck = new DeckLoader().load(DECK.getBytes(StandardCharsets.UTF_8));
+        weights = new DynamicWeights(deck);
+        shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, 7);
+    }
+
+    @Test
+    public void picksCardsInProportionToWeights() {
+        assertFrequencies(0.1, 0.2, 0.3, 0.4);
+    }
+
+    @Test
+    public void picksByChangedWeights() {
+        long version = weights.getVersion();
+        weights.setWeight(0, 6);
+        assertEquals(2.0, weights.scaleWeight(3, 0.5), 0);
+        weights.setWeight(2, 0);
+
+        assertNotEquals(version, weights.getVersion());
+        assertEquals(10.0, weights.getTotalWeight(), 1e-9);
+        assertEquals(6.0, weights.getWeight(0), 0);
+        assertFrequencies(0.6, 0.2, 0, 0.2);
+    }
+
+    @Test
+    public void picksNothingWithoutWeights() {
+        for (int card = 0; card < weights.size(); card++) {
+            weights.setWeight(card, 0);
+        }
+        assertEquals(Deck.NO_CARD, weights.sample(shuffler));
+
+        weights.setWeight(1, 0.5);
+        assertEquals(1, weights.sample(shuffler));
+    }
+
+    @Test
+    public void rejectsInvalidWeights() {
+        assertThrows(IllegalArgumentException.class, () -> weights.setWeight(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> weights.setWeight(0, Double.NaN));
+        assertThrows(IllegalArgumentException.class,
+            () -> weights.scaleWeight(0, Double.POSITIVE_INFINITY));
+        assertEquals(1.0, weights.getWeight(0), 0);
+    }
+
+    @Test
+    public void drawsOnlyCardsWithWeightWhileWeightsChange() throws InterruptedException {
+        // Only one card at a time has weight, and the weight
+        // moves to the next card before the old one is cleared
+        for (int card = 1; card < weights.size(); card++) {
+            weights.setWeight(card, 0);
+        }
+
+        AtomicInteger missing = new AtomicInteger();
+        Thread[] readers = new Thread[4];
+        for (int i = 0; i < readers.length; i++) {
+            Shuffler readerShuffler = shuffler.forHand(i);
+            readers[i] = new Thread(() -> {
+                for (int j = 0; j < SAMPLES; j++) {
+                    if (weights.sample(readerShuffler) == Deck.NO_CARD) {
+                        missing.incrementAndGet();
+                    }
+                }
+            });
+            readers[i].start();
+        }
+
+        int card = 0;
+        while (readers[0].isAlive()) {
+            int next = (card + 1) % weights.size();
+            weights.setWeight(next, 1);
+            weights.setWeight(card, 0);
+            card = next;
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(0, missing.get());
+        assertEquals(1.0, weights.getTotalWeight(), 1e-9);
+    }
+
+   /**
+    * Picks many cards and compares how often each
+    * card was picked with the expected shares.
+    *
+    * @param expected   the cards' expected shares of the picks
+    */
+    private void assertFrequencies(double... expected) {
+        int[] counts = new int[weights.size()];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[weights.sample(shuffler)]++;
+        }
+
+        for (int card = 0; card < expected.length; card++) {
+            assertEquals(expected[card], (double) counts[card] / SAMPLES, TOLERANCE,
+                         "card " + card);
+        }
+    }
+}
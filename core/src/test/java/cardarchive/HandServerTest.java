@@ -0,0 +1,208 @@
+package cardarchive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Runs HandServer on an ephemeral localhost port
+ * and checks the status and body of its responses.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class HandServerTest {
+    private static final String DECK =
+        "@cards 4\n" +
+        "[0] Combat\n" +
+        "Boss fights @2.5\n" +
+        "Dodging\n" +
+        "[1] Items\n" +
+        "Keys\n" +
+        "Potions\n";
+    private static final List<String> CARD_NAMES =
+        Arrays.asList("Boss fights", "Dodging", "Keys", "Potions");
+    private static final long SEED = 7;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Deck deck;
+    private HandServer server;
+
+    @BeforeEach
+    public void loadDeck() throws IOException {
+        deck = new DeckLoader().load(DECK.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    public void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void servesHandOfDistinctCards() throws Exception {
+        start(new Engine(deck));
+        HttpResponse<String> response = get("/hand?cards=3");
+
+        assertEquals(200, response.statusCode());
+        assertEquals("text/plain; charset=UTF-8",
+                     response.headers().firstValue("Content-Type").orElse(""));
+
+        String[] lines = response.body().split("\n");
+        assertEquals(4, lines.length);
+        assertEquals("------", lines[3]);
+        long distinct = Arrays.stream(lines, 0, 3)
+            .map(HandServerTest::cardName)
+            .peek(name -> assertTrue(CARD_NAMES.contains(name), name))
+            .distinct()
+            .count();
+        assertEquals(3, distinct);
+    }
+
+    @Test
+    public void servesSameHandsWithSameSeed() throws Exception {
+        start(new Engine(deck));
+        String first = get("/hands?hands=3&cards=2").body();
+        server.stop();
+
+        start(new Engine(deck));
+        assertEquals(first, get("/hands?hands=3&cards=2").body());
+    }
+
+    @Test
+    public void readsAndChangesDynamicWeight() throws Exception {
+        start(new Engine(deck, null, new DynamicWeights(deck), null, null));
+
+        HttpResponse<String> response = get("/weight?card=1");
+        assertEquals(200, response.statusCode());
+        assertEquals("Boss fights: 2.5\n", response.body());
+
+        response = get("/weight?card=1&weight=4");
+        assertEquals(200, response.statusCode());
+        assertEquals("Boss fights: 4.0\n", response.body());
+
+        response = get("/weight?card=1&factor=0.5");
+        assertEquals(200, response.statusCode());
+        assertEquals("Boss fights: 2.0\n", response.body());
+    }
+
+    @Test
+    public void neverServesCardsWithoutWeight() throws Exception {
+        start(new Engine(deck, null, new DynamicWeights(deck), null, null));
+        for (int card = 1; card <= 3; card++) {
+            assertEquals(200, get("/weight?card=" + card + "&weight=0").statusCode());
+        }
+
+        for (int i = 0; i < 20; i++) {
+            HttpResponse<String> response = get("/hand?cards=2");
+            assertEquals(200, response.statusCode());
+            assertEquals("1 - [Items] Potions\n------\n", response.body());
+        }
+    }
+
+    @Test
+    public void rejectsWeightChangeWithoutDynamicWeights() throws Exception {
+        start(new Engine(deck));
+        HttpResponse<String> response = get("/weight?card=2&weight=3");
+
+        assertEquals(409, response.statusCode());
+        assertEquals("Dodging: 1.0\n", get("/weight?card=2").body());
+    }
+
+    @Test
+    public void rejectsInvalidRequests() throws Exception {
+        start(new Engine(deck, null, new DynamicWeights(deck), null, null));
+
+        HttpResponse<String> response = get("/weight?card=5");
+        assertEquals(404, response.statusCode());
+        assertEquals("Unknown card.\n", response.body());
+        assertEquals(400, get("/weight?card=1&weight=-1").statusCode());
+        assertEquals(400, get("/hand?cards=five").statusCode());
+        assertEquals(400, get("/hand?cards=5").statusCode());
+        assertEquals(404, get("/deal").statusCode());
+    }
+
+    @Test
+    public void limitsCardsPerResponse() throws Exception {
+        StringBuilder text = new StringBuilder("@cards 20\n[0] Combat\n");
+        for (int card = 1; card <= 20; card++) {
+            text.append("Card ").append(card).append('\n');
+        }
+        start(new Engine(new DeckLoader().load(text.toString().getBytes(StandardCharsets.UTF_8))));
+
+        HttpResponse<String> response = get("/hands?hands=10000&cards=11");
+        assertEquals(400, response.statusCode());
+        assertEquals("At most 100000 cards at a time.\n", response.body());
+        assertEquals(200, get("/hands?hands=5000&cards=20").statusCode());
+    }
+
+    @Test
+    public void answersInGivenLanguage() throws Exception {
+        start(new Engine(deck), Language.forCode("fi"));
+        HttpResponse<String> response = get("/category?number=2");
+
+        assertEquals(404, response.statusCode());
+        assertEquals("Tuntematon kategoria.\n", response.body());
+    }
+
+   /**
+    * Starts a server with English messages on a free port.
+    *
+    * @param engine the engine the server draws from
+    * @throws IOException if the server can't be started
+    */
+    private void start(Engine engine) throws IOException {
+        start(engine, Language.forCode(Language.ENGLISH));
+    }
+
+   /**
+    * Starts a server on a free port.
+    *
+    * @param engine     the engine the server draws from
+    * @param language   the language of the messages
+    * @throws IOException if the server can't be started
+    */
+    private void start(Engine engine, Language language) throws IOException {
+        server = new HandServer(engine, language, true,
+                                new Shuffler(Shuffler.Generator.SPLITTABLE, SEED));
+        server.start(0);
+    }
+
+   /**
+    * Sends a GET request to the server.
+    *
+    * @param pathAndQuery   the requested path and its query
+    * @return the response
+    * @throws Exception if the request fails
+    */
+    private HttpResponse<String> get(String pathAndQuery) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+            URI.create("http://127.0.0.1:" + server.getPort() + pathAndQuery)).build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+
+   /**
+    * Gets the card's name from a printed card line
+    * such as "1 - [Combat] Dodging".
+    *
+    * @param line   the card's line
+    * @return the card's name
+    */
+    private static String cardName(String line) {
+        return line.substring(line.indexOf("] ") + 2);
+    }
+}
@@ -0,0 +1,88 @@
+package cardarchive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Sorts hands by category and by name and checks
+ * that cards which compare equal keep their order.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class HandSorterTest {
+    private static final String DECK =
+        "@cards 7\n" +
+        "[0] Combat\n" +
+        "Ääniaseet\n" +
+        "Keys\n" +
+        "Zeppeliinit\n" +
+        "[1] Items\n" +
+        "Aarteet\n" +
+        "Keys\n" +
+        "[2] World\n" +
+        "Luolat\n" +
+        "Öljylähteet\n";
+    private static final int NO_CARD = Deck.NO_CARD;
+
+    private Deck deck;
+
+    @BeforeEach
+    public void loadDeck() throws IOException {
+        deck = new DeckLoader().load(DECK.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void sortsByCategoryKeepingOrderInCategory() {
+        HandSorter sorter = new HandSorter(deck, HandSorter.Order.CATEGORY, Locale.ENGLISH);
+        int[] hand = {4, 6, NO_CARD, 2, 3, 0, 5};
+        sorter.sort(hand, hand.length);
+
+        assertArrayEquals(new int[] {2, 0, 4, 3, 6, 5, NO_CARD}, hand);
+    }
+
+    @Test
+    public void sortsOnlyGivenCards() {
+        HandSorter sorter = new HandSorter(deck, HandSorter.Order.CATEGORY, Locale.ENGLISH);
+        int[] hand = {5, 3, 0, 6};
+        sorter.sort(hand, 2);
+
+        assertArrayEquals(new int[] {3, 5, 0, 6}, hand);
+    }
+
+    @Test
+    public void sortsByNameInLanguageOrder() {
+        HandSorter sorter = new HandSorter(deck, HandSorter.Order.NAME, Locale.forLanguageTag("fi"));
+        int[] hand = {0, 6, 2, NO_CARD, 3, 5};
+        sorter.sort(hand, hand.length);
+
+        // In Finnish, Ä and Ö come after Z
+        assertArrayEquals(new int[] {3, 5, 2, 0, 6, NO_CARD}, hand);
+        assertArrayEquals(new int[] {3, 1, 4, 5, 2, 0, 6}, sorter.getCardsByName());
+    }
+
+    @Test
+    public void keepsSameNamesInDeckOrder() {
+        HandSorter sorter = new HandSorter(deck, HandSorter.Order.NAME, Locale.ENGLISH);
+        int[] hand = {4, 1};
+        sorter.sort(hand, hand.length);
+
+        assertArrayEquals(new int[] {1, 4}, hand);
+    }
+
+    @Test
+    public void keepsDrawnOrderWithoutSorting() {
+        HandSorter sorter = new HandSorter(deck, HandSorter.Order.NONE, Locale.ENGLISH);
+        int[] hand = {6, 0, 4};
+        sorter.sort(hand, hand.length);
+
+        assertArrayEquals(new int[] {6, 0, 4}, hand);
+    }
+}
@@ -0,0 +1,82 @@
+package cardarchive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Searches the names of a small deck with words,
+ * phrases, OR and misspelled words.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class SearchIndexTest {
+    private static final String DECK =
+        "@cards 6\n" +
+        "[0] Combat\n" +
+        "Boss fights\n" +
+        "Fighting bosses\n" +
+        "Keys of the boss\n" +
+        "[1] Items\n" +
+        "Hidden keys\n" +
+        "Boss keys\n" +
+        "Käsikranaatit\n";
+
+    private static SearchIndex index;
+
+    @BeforeAll
+    public static void buildIndex() throws IOException {
+        Deck deck = new DeckLoader().load(DECK.getBytes(StandardCharsets.UTF_8));
+        index = new SearchIndex(deck);
+    }
+
+    @Test
+    public void findsCardsWithWord() {
+        assertArrayEquals(new int[] {0, 2, 4}, index.search("boss"));
+        assertArrayEquals(new int[] {0, 2, 4}, index.search("BOSS"));
+        assertArrayEquals(new int[] {1}, index.search("bosses"));
+        assertArrayEquals(new int[] {5}, index.search("käsikranaatit"));
+        assertArrayEquals(new int[0], index.search("dragon"));
+    }
+
+    @Test
+    public void findsCardsWithAllWords() {
+        assertArrayEquals(new int[] {2, 4}, index.search("boss keys"));
+        assertArrayEquals(new int[] {2, 4}, index.search("keys boss"));
+        assertArrayEquals(new int[0], index.search("boss hidden"));
+    }
+
+    @Test
+    public void findsCardsWithEitherSide() {
+        assertArrayEquals(new int[] {0, 2, 3, 4}, index.search("boss OR hidden"));
+        assertArrayEquals(new int[] {0, 3}, index.search("hidden|fights"));
+        assertArrayEquals(new int[] {1, 2, 3, 4}, index.search("bosses OR boss keys OR hidden"));
+    }
+
+    @Test
+    public void findsPhrasesOnlyInOrder() {
+        assertArrayEquals(new int[] {4}, index.search("\"boss keys\""));
+        assertArrayEquals(new int[] {2}, index.search("\"keys of the boss\""));
+        assertArrayEquals(new int[0], index.search("\"keys boss\""));
+        assertArrayEquals(new int[] {3, 4}, index.search("\"boss keys\" OR hidden"));
+    }
+
+    @Test
+    public void correctsMisspelledWords() {
+        Map<String, String> corrections = new LinkedHashMap<String, String>();
+        assertArrayEquals(new int[0], index.search("hiden keyz"));
+        assertArrayEquals(new int[] {3}, index.search("hiden keyz", corrections));
+        assertEquals("hidden", corrections.get("hiden"));
+        assertEquals("keys", corrections.get("keyz"));
+        assertEquals(2, corrections.size());
+    }
+}
@@ -0,0 +1,118 @@
+package cardarchive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Checks that seeded shufflers and the shufflers
+ * of single hands always give the same cards.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class ShufflerTest {
+    private static final int DECK_SIZE = 100;
+    private static final long SEED = 42;
+
+    @Test
+    public void sameSeedGivesSameShuffles() {
+        for (Shuffler.Generator generator : seedableGenerators()) {
+            int[] first = shuffled(new Shuffler(generator, SEED));
+            int[] second = shuffled(new Shuffler(generator, SEED));
+            assertArrayEquals(first, second, generator.getOptionName());
+            assertFalse(Arrays.equals(first, shuffled(new Shuffler(generator, SEED + 1))),
+                        generator.getOptionName());
+        }
+    }
+
+    @Test
+    public void shuffleKeepsEveryCard() {
+        int[] order = shuffled(new Shuffler(Shuffler.Generator.SPLITTABLE, SEED));
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+
+        assertArrayEquals(identity(), sorted);
+        assertFalse(Arrays.equals(identity(), order));
+    }
+
+    @Test
+    public void handShufflerDependsOnlyOnSeedAndHand() {
+        for (Shuffler.Generator generator : seedableGenerators()) {
+            Shuffler shuffler = new Shuffler(generator, SEED);
+            int[] hand = shuffled(shuffler.forHand(5));
+
+            // Drawing with the shuffler or other hands changes nothing
+            shuffled(shuffler);
+            shuffled(shuffler.forHand(4));
+            assertArrayEquals(hand, shuffled(shuffler.forHand(5)), generator.getOptionName());
+            assertArrayEquals(hand, shuffled(new Shuffler(generator, SEED).forHand(5)),
+                              generator.getOptionName());
+            assertFalse(Arrays.equals(hand, shuffled(shuffler.forHand(6))),
+                        generator.getOptionName());
+        }
+    }
+
+    @Test
+    public void threadLocalShufflerCantBeSeeded() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new Shuffler(Shuffler.Generator.THREAD_LOCAL, SEED));
+
+        Shuffler shuffler = new Shuffler(Shuffler.Generator.THREAD_LOCAL);
+        assertSame(shuffler, shuffler.forHand(3));
+    }
+
+    @Test
+    public void drawCardsLeavesOrderAsItWas() {
+        Shuffler shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, SEED);
+        int[] order = identity();
+        int[] cards = new int[10];
+
+        for (int hand = 0; hand < 20; hand++) {
+            shuffler.drawCards(order, cards, cards.length);
+            assertArrayEquals(identity(), order);
+            assertEquals(cards.length, Arrays.stream(cards).distinct().count());
+        }
+    }
+
+   /**
+    * Shuffles the cards of a deck in the deck's order.
+    *
+    * @param shuffler   the shuffler
+    * @return the shuffled card indexes
+    */
+    private static int[] shuffled(Shuffler shuffler) {
+        int[] order = identity();
+        shuffler.shuffle(order);
+        return order;
+    }
+
+   /**
+    * Returns the card indexes in the deck's order.
+    *
+    * @return the card indexes
+    */
+    private static int[] identity() {
+        int[] order = new int[DECK_SIZE];
+        Shuffler.resetOrder(order, DECK_SIZE);
+        return order;
+    }
+
+   /**
+    * Returns the generators which can be seeded.
+    *
+    * @return the generators
+    */
+    private static Shuffler.Generator[] seedableGenerators() {
+        return new Shuffler.Generator[] {
+            Shuffler.Generator.SPLITTABLE, Shuffler.Generator.XOSHIRO
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package cardarchive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Looks up misspelled words in a trigram index.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class TrigramIndexTest {
+    private static final String[] WORDS = {
+        "stealth", "steal", "health", "hidden", "boss", "bosses", "kätköt"
+    };
+
+    private final TrigramIndex index = new TrigramIndex(WORDS);
+
+    @Test
+    public void findsSameWord() {
+        assertEquals(0, index.findBest("stealth"));
+        assertEquals(4, index.findBest("boss"));
+        assertEquals(0, index.findBest("STEALTH"));
+    }
+
+    @Test
+    public void correctsMisspelledWord() {
+        assertEquals(0, index.findBest("stelth"));
+        assertEquals(3, index.findBest("hiden"));
+        assertEquals(4, index.findBest("bos"));
+        assertEquals(6, index.findBest("kätköz"));
+    }
+
+    @Test
+    public void ignoresDissimilarWords() {
+        assertEquals(-1, index.findBest("dragon"));
+        assertArrayEquals(new int[0], index.find("xyz", 5, 0.1));
+    }
+
+    @Test
+    public void ranksWordsBySimilarity() {
+        assertArrayEquals(new int[] {0, 1, 2}, index.find("stealth", 3, 0.1));
+        assertArrayEquals(new int[] {0}, index.find("stealth", 1, 0.1));
+        assertArrayEquals(new int[] {4, 5}, index.find("boss", 5, 0.5));
+    }
+}
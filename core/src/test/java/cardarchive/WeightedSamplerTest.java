@@ -0,0 +1,182 @@
+package cardarchive;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Card Archive: Game Elements
+ *
+ * Checks that a weighted sampler draws cards in proportion
+ * to their weights without drawing any card twice, also
+ * once it finds the cards in the tree of the remaining
+ * weights instead of picking them again.
+ *
+ * @author Lauri Kosonen
+ * @version 2026-10-17
+ */
+public class WeightedSamplerTest {
+    private static final String DECK =
+        "@cards 4\n" +
+        "[0] Combat\n" +
+        "Boss fights @90\n" +
+        "Dodging @5\n" +
+        "[1] Items\n" +
+        "Keys @3\n" +
+        "Potions @2\n";
+    private static final int TRIALS = 100_000;
+    private static final double TOLERANCE = 0.01;
+
+    @Test
+    public void drawsFirstCardInProportionToWeights() throws IOException {
+        WeightedSampler sampler = new WeightedSampler(loadDeck());
+        Shuffler shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, 7);
+
+        int[] counts = new int[4];
+        for (int i = 0; i < TRIALS; i++) {
+            sampler.reset();
+            counts[sampler.draw(shuffler)]++;
+        }
+
+        assertShares(counts, TRIALS, 0.9, 0.05, 0.03, 0.02);
+    }
+
+    @Test
+    public void drawsRemainingCardsFromTreeInProportionToWeights() throws IOException {
+        // After the first card, the drawn cards have over half of
+        // the total weight, so the rest are found in the tree
+        WeightedSampler sampler = new WeightedSampler(loadDeck());
+        Shuffler shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, 7);
+
+        int[] counts = new int[4];
+        int trials = 0;
+        for (int i = 0; i < TRIALS; i++) {
+            sampler.reset();
+            if (sampler.draw(shuffler) == 0) {
+                counts[sampler.draw(shuffler)]++;
+                trials++;
+            }
+        }
+
+        assertShares(counts, trials, 0, 0.5, 0.3, 0.2);
+    }
+
+    @Test
+    public void treeFollowsChangedWeights() throws IOException {
+        DynamicWeights weights = new DynamicWeights(loadDeck());
+        WeightedSampler sampler = new WeightedSampler(weights);
+        Shuffler shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, 7);
+        int[] hand = new int[1];
+
+        int[] counts = new int[4];
+        for (int i = 0; i < TRIALS; i++) {
+            weights.setWeight(3, 2);
+            sampler.reset();
+            markDrawn(sampler, shuffler, 0);
+
+            // Builds the tree of the remaining weights,
+            // and then the weights change under it
+            sampler.drawHand(shuffler, hand, 1);
+            weights.setWeight(3, 0);
+            counts[sampler.draw(shuffler)]++;
+        }
+
+        assertShares(counts, TRIALS, 0, 0.625, 0.375, 0);
+    }
+
+    @Test
+    public void neverDrawsCardsWithoutWeight() throws IOException {
+        DynamicWeights weights = new DynamicWeights(loadDeck());
+        WeightedSampler sampler = new WeightedSampler(weights);
+        Shuffler shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, 7);
+        weights.setWeight(1, 0);
+
+        for (int round = 0; round < 100; round++) {
+            sampler.reset();
+            int[] drawn = new int[3];
+            for (int i = 0; i < drawn.length; i++) {
+                drawn[i] = sampler.draw(shuffler);
+            }
+            Arrays.sort(drawn);
+
+            assertArrayEquals(new int[] {0, 2, 3}, drawn);
+            assertEquals(Deck.NO_CARD, sampler.draw(shuffler));
+        }
+    }
+
+    @Test
+    public void drawsEveryCardWithWeightOnce() throws IOException {
+        WeightedSampler sampler = new WeightedSampler(loadDeck());
+        Shuffler shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, 7);
+
+        for (int round = 0; round < 100; round++) {
+            sampler.reset();
+            int[] drawn = new int[4];
+            for (int i = 0; i < drawn.length; i++) {
+                drawn[i] = sampler.draw(shuffler);
+            }
+            Arrays.sort(drawn);
+
+            assertArrayEquals(new int[] {0, 1, 2, 3}, drawn);
+            assertEquals(Deck.NO_CARD, sampler.draw(shuffler));
+        }
+    }
+
+    @Test
+    public void drawHandLeavesSamplerAsItWas() throws IOException {
+        WeightedSampler sampler = new WeightedSampler(loadDeck());
+        Shuffler shuffler = new Shuffler(Shuffler.Generator.SPLITTABLE, 7);
+        int[] first = new int[3];
+        int[] second = new int[3];
+
+        sampler.drawHand(shuffler.forHand(1), first, first.length);
+        sampler.drawHand(shuffler.forHand(1), second, second.length);
+        assertArrayEquals(first, second);
+
+        int[] all = new int[5];
+        sampler.drawHand(shuffler.forHand(2), all, all.length);
+        assertEquals(Deck.NO_CARD, all[4]);
+    }
+
+   /**
+    * Loads the weighted deck.
+    *
+    * @return the deck
+    * @throws IOException if the deck is invalid
+    */
+    private static Deck loadDeck() throws IOException {
+        return new DeckLoader().load(DECK.getBytes(StandardCharsets.UTF_8));
+    }
+
+   /**
+    * Draws cards until the given card has been drawn.
+    *
+    * @param sampler    the sampler
+    * @param shuffler   the shuffler
+    * @param card       the card's index
+    */
+    private static void markDrawn(WeightedSampler sampler, Shuffler shuffler, int card) {
+        while (sampler.draw(shuffler) != card) {
+            sampler.reset();
+        }
+    }
+
+   /**
+    * Compares how often each card was drawn
+    * with the expected shares.
+    *
+    * @param counts     how many times each card was drawn
+    * @param trials     the number of draws
+    * @param expected   the cards' expected shares of the draws
+    */
+    private static void assertShares(int[] counts, int trials, double... expected) {
+        for (int card = 0; card < expected.length; card++) {
+            assertEquals(expected[card], (double) counts[card] / trials, TOLERANCE,
+                         "card " + card);
+        }
+    }
+}